@@ -0,0 +1,87 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 역이 일렬로 이어진 노선에서 구간 등록, 삭제, 역 정렬의 처리량과 할당률을 잰다.
+// 등록과 삭제는 노선을 바꾸므로 호출마다 같은 길이의 노선을 새로 만든다. 만드는 시간은 재지 않는다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SectionsBenchmark {
+    private static final int DISTANCE = 10;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int sectionCount;
+
+    private List<Section> line;
+    private Sections sections;
+    private Sections readOnlySections;
+    private Station first;
+    private Station last;
+    private Station middle;
+    private Station middleNext;
+    private Station additional;
+
+    @Setup(Level.Trial)
+    public void createLine() {
+        line = new ArrayList<>(sectionCount);
+        for (int index = 0; index < sectionCount; index++) {
+            line.add(new Section(stationAt(index), stationAt(index + 1), DISTANCE));
+        }
+        readOnlySections = new Sections(line);
+        first = stationAt(0);
+        last = stationAt(sectionCount);
+        middle = stationAt(sectionCount / 2);
+        middleNext = stationAt(sectionCount / 2 + 1);
+        additional = new Station("추가역");
+    }
+
+    private static Station stationAt(final int index) {
+        return new Station(String.format("역%06d", index));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyLine() {
+        sections = new Sections(line);
+    }
+
+    @Benchmark
+    public Sections registerAtEnd() {
+        sections.register(last, additional, DISTANCE);
+        return sections;
+    }
+
+    @Benchmark
+    public Sections registerAtStart() {
+        sections.register(additional, first, DISTANCE);
+        return sections;
+    }
+
+    @Benchmark
+    public Sections registerInMiddle() {
+        sections.register(middle, additional, DISTANCE / 2);
+        return sections;
+    }
+
+    @Benchmark
+    public Sections deleteMiddleStation() {
+        sections.delete(middleNext);
+        return sections;
+    }
+
+    @Benchmark
+    public List<Station> getOrderedStations() {
+        return readOnlySections.getOrderedStations();
+    }
+}
@@ -0,0 +1,119 @@
+package subway.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import subway.config.NavigationConfig;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+import subway.domain.graph.ShortestPathTreeCache;
+import subway.domain.graph.StationGraph;
+import subway.fixture.SyntheticNetwork;
+import subway.fixture.SyntheticNetwork.Shape;
+
+// 합성 노선망 위에서 경로 탐색 엔진마다 만드는 시간, 한 번 묻는 지연 시간, 여러 스레드의 처리량을 잰다.
+// engine에 값을 주지 않으면 NavigationEngine의 모든 값을 돌므로, 엔진을 새로 추가하면 따로 고치지 않아도 함께 잰다.
+@State(Scope.Benchmark)
+public class NavigationBenchmark {
+    private static final int QUERY_COUNT = 1024;
+    private static final long SEED = 20_230_512L;
+
+    @Param
+    private NavigationEngine engine;
+
+    @Param
+    private Shape shape;
+
+    // 노선 수이자 노선마다의 역 수. 10이면 역이 100개 안팎, 100이면 모양에 따라 7천에서 1만 개다.
+    @Param({"10", "32", "100"})
+    private int scale;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private NavigationProperties properties;
+    private NavigationFactory factory;
+    private StationGraph.Builder graphBuilder;
+    private Navigation navigation;
+    private Station[] sources;
+    private Station[] targets;
+
+    @Setup(Level.Trial)
+    public void createNavigation() {
+        applicationContext = new AnnotationConfigApplicationContext(
+                NavigationConfig.class, NavigationProperties.class, NavigationEngineRegistry.class);
+        properties = applicationContext.getBean(NavigationProperties.class);
+        final SyntheticNetwork network = SyntheticNetwork.generate(shape, scale, scale, SEED);
+        graphBuilder = StationGraph.builderOf(network.toSubway());
+        factory = applicationContext.getBean(NavigationEngineRegistry.class)
+                .select(engine, graphBuilder.build());
+        navigation = build();
+        sources = new Station[QUERY_COUNT];
+        targets = new Station[QUERY_COUNT];
+        final Random random = new Random(SEED);
+        for (int index = 0; index < QUERY_COUNT; index++) {
+            sources[index] = network.stationOf(random.nextInt(network.stationCount()));
+            targets[index] = network.stationOf(random.nextInt(network.stationCount()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        applicationContext.close();
+    }
+
+    private Navigation build() {
+        final ShortestPathTreeCache treeCache = new ShortestPathTreeCache(properties.getTreeCacheMaxBytes());
+        return factory.create(new NavigationContext(graphBuilder, 0L, properties, treeCache));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Navigation buildNavigation() {
+        return build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Route findRoute(final QueryCursor cursor) {
+        final int query = cursor.next();
+        return navigation.getRoute(sources[query], targets[query]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(Threads.MAX)
+    public Route findRouteConcurrently(final QueryCursor cursor) {
+        final int query = cursor.next();
+        return navigation.getRoute(sources[query], targets[query]);
+    }
+
+    // 스레드마다 다른 자리에서 질의 목록을 돌아, 같은 순간에 모든 스레드가 같은 경로를 묻지 않게 한다.
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        private int position;
+
+        @Setup(Level.Trial)
+        public void start() {
+            position = (int) (Thread.currentThread().getId() * 31 % QUERY_COUNT);
+        }
+
+        int next() {
+            position = (position + 1) % QUERY_COUNT;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package subway.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import subway.SubwayApplication;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.dao.StationDao;
+import subway.dao.entity.LineEntity;
+import subway.domain.Line;
+import subway.domain.Station;
+import subway.fixture.SyntheticNetwork;
+import subway.service.event.SubwayChangedEvent;
+
+// 애플리케이션을 H2 위에 띄워 합성 노선망을 넣고, 정해진 수의 요청자가 요청을 섞어 보내며 지연 시간 분포를 잰다.
+// 워밍업 동안의 요청은 세지 않는다. 요청 종류마다 백분위 분포를 reportDir 아래 .hgrm 파일로 남긴다.
+public class LoadTest {
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        System.out.println("부하 조건: " + options);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SubwayApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            final SyntheticNetwork network = SyntheticNetwork.generate(
+                    options.getShape(), options.getLineCount(), options.getStationsPerLine(), options.getSeed());
+            final long loadStartedAt = System.nanoTime();
+            network.load(context.getBean(StationDao.class), context.getBean(LineDao.class),
+                    context.getBean(SectionDao.class));
+            context.publishEvent(new SubwayChangedEvent(null));
+            System.out.printf("노선망을 넣었습니다. 역 %d개, 구간 %d개, %dms%n", network.stationCount(),
+                    network.sectionCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartedAt));
+
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final List<LoadWorker> workers = createWorkers(options, context, network, URI.create("http://localhost:" + port));
+            final ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+            try {
+                runPhase(executor, workers, options.getWarmupSeconds());
+                runPhase(executor, workers, options.getDurationSeconds());
+            } finally {
+                executor.shutdownNow();
+            }
+            report(workers, options);
+        }
+    }
+
+    private static List<LoadWorker> createWorkers(
+            final LoadTestOptions options,
+            final ConfigurableApplicationContext context,
+            final SyntheticNetwork network,
+            final URI baseUri
+    ) {
+        final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        final ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        final Map<String, Long> lineIds = context.getBean(LineDao.class).findAll().stream()
+                .collect(Collectors.toMap(LineEntity::getName, LineEntity::getId));
+        final List<Line> lines = network.toSubway().getLines();
+        final List<LoadWorker> workers = new ArrayList<>(options.getConcurrency());
+        for (int index = 0; index < options.getConcurrency(); index++) {
+            final Line line = lines.get(index);
+            final List<Station> stations = line.stations();
+            workers.add(new LoadWorker(index, baseUri, client, objectMapper, network, lineIds.get(line.getName()),
+                    stations.get(stations.size() - 1).getName(), options.getMix(), options.getSeed()));
+        }
+        return workers;
+    }
+
+    private static void runPhase(
+            final ExecutorService executor,
+            final List<LoadWorker> workers,
+            final int seconds
+    ) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        workers.forEach(worker -> worker.startPhase(deadline));
+        final List<Future<?>> futures = new ArrayList<>(workers.size());
+        for (LoadWorker worker : workers) {
+            futures.add(executor.submit(worker));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static void report(final List<LoadWorker> workers, final LoadTestOptions options) throws IOException {
+        final Map<Operation, Histogram> latencies = merge(workers);
+        final Histogram total = LoadWorker.newHistogram();
+        latencies.values().forEach(total::add);
+        Files.createDirectories(options.getReportDirectory());
+
+        System.out.printf("%n%-16s %10s %8s %10s %10s %10s %10s %12s%n",
+                "operation", "count", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "throughput/s");
+        for (Operation operation : options.getMix().keySet()) {
+            final long errors = workers.stream().mapToLong(worker -> worker.getErrors().get(operation)).sum();
+            printRow(operation.getKey(), latencies.get(operation), errors, options.getDurationSeconds());
+            writeDistribution(operation.getKey(), latencies.get(operation), options);
+        }
+        final long errors = workers.stream()
+                .flatMap(worker -> worker.getErrors().values().stream())
+                .mapToLong(Long::longValue)
+                .sum();
+        printRow("total", total, errors, options.getDurationSeconds());
+        writeDistribution("total", total, options);
+        System.out.println("백분위 분포: " + options.getReportDirectory().toAbsolutePath());
+    }
+
+    private static Map<Operation, Histogram> merge(final List<LoadWorker> workers) {
+        final Map<Operation, Histogram> merged = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            final Histogram histogram = LoadWorker.newHistogram();
+            workers.forEach(worker -> histogram.add(worker.getLatencies().get(operation)));
+            merged.put(operation, histogram);
+        }
+        return merged;
+    }
+
+    private static void printRow(final String name, final Histogram histogram, final long errors, final int seconds) {
+        System.out.printf("%-16s %10d %8d %10.2f %10.2f %10.2f %10.2f %12.1f%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                (double) histogram.getTotalCount() / seconds);
+    }
+
+    private static void writeDistribution(
+            final String name,
+            final Histogram histogram,
+            final LoadTestOptions options
+    ) throws IOException {
+        try (PrintStream output = new PrintStream(
+                Files.newOutputStream(options.getReportDirectory().resolve(name + ".hgrm")), true, "UTF-8")) {
+            histogram.outputPercentileDistribution(output, MICROS_PER_MILLI);
+        }
+    }
+}
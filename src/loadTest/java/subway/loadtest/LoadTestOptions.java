@@ -0,0 +1,144 @@
+package subway.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import subway.fixture.SyntheticNetwork.Shape;
+
+// loadtest.로 시작하는 시스템 속성에서 부하 조건을 읽는다. gradle loadTest 태스크가 같은 이름의 프로젝트 속성을 넘겨 준다.
+public class LoadTestOptions {
+    private static final String PREFIX = "loadtest.";
+
+    private final Shape shape;
+    private final int lineCount;
+    private final int stationsPerLine;
+    private final long seed;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Map<Operation, Integer> mix;
+    private final Path reportDirectory;
+
+    private LoadTestOptions(
+            final Shape shape,
+            final int lineCount,
+            final int stationsPerLine,
+            final long seed,
+            final int concurrency,
+            final int warmupSeconds,
+            final int durationSeconds,
+            final Map<Operation, Integer> mix,
+            final Path reportDirectory
+    ) {
+        validate(lineCount, concurrency, durationSeconds, mix);
+        this.shape = shape;
+        this.lineCount = lineCount;
+        this.stationsPerLine = stationsPerLine;
+        this.seed = seed;
+        this.concurrency = concurrency;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.mix = mix;
+        this.reportDirectory = reportDirectory;
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Shape.valueOf(property("shape", "GRID")),
+                Integer.parseInt(property("lines", "20")),
+                Integer.parseInt(property("stationsPerLine", "100")),
+                Long.parseLong(property("seed", "1")),
+                Integer.parseInt(property("concurrency", "8")),
+                Integer.parseInt(property("warmupSeconds", "10")),
+                Integer.parseInt(property("durationSeconds", "30")),
+                parseMix(property("mix", "paths=85,lines=5,create-station=5,delete-station=5")),
+                Path.of(property("reportDir", "build/reports/loadtest")));
+    }
+
+    private static String property(final String name, final String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    // "paths=85,lines=5"처럼 요청 종류마다 비율을 적는다. 적지 않은 종류는 보내지 않는다.
+    private static Map<Operation, Integer> parseMix(final String value) {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            final String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("요청 비율은 종류=비율 형식이어야 합니다. mix=" + value);
+            }
+            mix.put(Operation.from(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static void validate(
+            final int lineCount,
+            final int concurrency,
+            final int durationSeconds,
+            final Map<Operation, Integer> mix
+    ) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("동시 요청 수는 1 이상이어야 합니다.");
+        }
+        // 역을 더하고 빼는 요청은 요청자마다 자기 노선의 끝에서만 하므로, 요청자마다 노선이 하나씩 있어야 한다.
+        if (concurrency > lineCount) {
+            throw new IllegalArgumentException("동시 요청 수는 노선 수보다 많을 수 없습니다.");
+        }
+        if (durationSeconds < 1) {
+            throw new IllegalArgumentException("측정 시간은 1초 이상이어야 합니다.");
+        }
+        if (mix.values().stream().anyMatch(weight -> weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("요청 비율은 0 이상이고, 합이 0보다 커야 합니다.");
+        }
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getStationsPerLine() {
+        return stationsPerLine;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getReportDirectory() {
+        return reportDirectory;
+    }
+
+    @Override
+    public String toString() {
+        return "shape=" + shape
+                + ", lines=" + lineCount
+                + ", stationsPerLine=" + stationsPerLine
+                + ", seed=" + seed
+                + ", concurrency=" + concurrency
+                + ", warmupSeconds=" + warmupSeconds
+                + ", durationSeconds=" + durationSeconds
+                + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,190 @@
+package subway.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import subway.dto.request.CreateStationRequest;
+import subway.dto.request.DeleteStationRequest;
+import subway.dto.request.ReadPathRequest;
+import subway.fixture.SyntheticNetwork;
+
+// 요청을 하나 보내고 응답을 받은 뒤 다음 요청을 보낸다. 지연 시간은 요청자마다 따로 모아 끝에 합친다.
+// 역을 더하고 빼는 요청은 자기 노선의 끝에서만 하므로, 다른 요청자와 같은 구간을 다투지 않는다.
+class LoadWorker implements Runnable {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int ADDED_DISTANCE = 5;
+
+    private final int index;
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final SyntheticNetwork network;
+    private final Long lineId;
+    private final Deque<String> addedStations = new ArrayDeque<>();
+    private final Operation[] operations;
+    private final Random random;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+    private String terminal;
+    private int addedCount;
+    private long deadline;
+
+    LoadWorker(
+            final int index,
+            final URI baseUri,
+            final HttpClient client,
+            final ObjectMapper objectMapper,
+            final SyntheticNetwork network,
+            final Long lineId,
+            final String terminal,
+            final Map<Operation, Integer> mix,
+            final long seed
+    ) {
+        this.index = index;
+        this.baseUri = baseUri;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.network = network;
+        this.lineId = lineId;
+        this.terminal = terminal;
+        this.operations = expand(mix);
+        this.random = new Random(seed + index);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, newHistogram());
+            errors.put(operation, 0L);
+        }
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    // 비율만큼 요청 종류를 늘어놓고 그중 하나를 고르면 가중치대로 뽑힌다.
+    private static Operation[] expand(final Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+    }
+
+    void startPhase(final long deadline) {
+        this.deadline = deadline;
+        latencies.values().forEach(Histogram::reset);
+        errors.replaceAll((operation, count) -> 0L);
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadline) {
+            final Operation operation = nextOperation();
+            final long startedAt = System.nanoTime();
+            final boolean succeeded = send(operation);
+            final long elapsed = System.nanoTime() - startedAt;
+            if (succeeded) {
+                latencies.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsed), MAX_LATENCY_MICROS));
+            } else {
+                errors.merge(operation, 1L, Long::sum);
+            }
+        }
+    }
+
+    // 더한 역이 없을 때 나온 삭제 요청은 추가 요청으로 바꿔, 노선망의 크기가 처음과 비슷하게 유지되게 한다.
+    private Operation nextOperation() {
+        final Operation operation = operations[random.nextInt(operations.length)];
+        if (operation == Operation.DELETE_STATION && addedStations.isEmpty()) {
+            return Operation.CREATE_STATION;
+        }
+        return operation;
+    }
+
+    private boolean send(final Operation operation) {
+        try {
+            switch (operation) {
+                case PATHS:
+                    return findPath();
+                case LINES:
+                    return isSuccessful(request("/lines").GET());
+                case CREATE_STATION:
+                    return createStation();
+                case DELETE_STATION:
+                    return deleteStation();
+                default:
+                    throw new IllegalStateException("처리하지 않은 요청 종류입니다. operation=" + operation);
+            }
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deadline = 0;
+            return false;
+        }
+    }
+
+    private boolean findPath() throws IOException, InterruptedException {
+        final int source = random.nextInt(network.stationCount());
+        final int target = (source + 1 + random.nextInt(network.stationCount() - 1)) % network.stationCount();
+        final ReadPathRequest body = new ReadPathRequest(
+                network.stationOf(source).getName(), network.stationOf(target).getName());
+        return isSuccessful(request("/paths").method("GET", json(body)));
+    }
+
+    private boolean createStation() throws IOException, InterruptedException {
+        final String station = "부하" + index + "-" + (++addedCount) + "역";
+        final CreateStationRequest body = new CreateStationRequest(lineId, terminal, station, ADDED_DISTANCE);
+        if (!isSuccessful(request("/stations").POST(json(body)))) {
+            return false;
+        }
+        addedStations.push(terminal);
+        terminal = station;
+        return true;
+    }
+
+    private boolean deleteStation() throws IOException, InterruptedException {
+        final DeleteStationRequest body = new DeleteStationRequest(lineId, terminal);
+        if (!isSuccessful(request("/stations").method("DELETE", json(body)))) {
+            return false;
+        }
+        terminal = addedStations.pop();
+        return true;
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(final Object body) {
+        try {
+            return BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isSuccessful(final HttpRequest.Builder request) throws IOException, InterruptedException {
+        final int status = client.send(request.build(), BodyHandlers.discarding()).statusCode();
+        return status >= 200 && status < 300;
+    }
+
+    Map<Operation, Histogram> getLatencies() {
+        return latencies;
+    }
+
+    Map<Operation, Long> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,27 @@
+package subway.loadtest;
+
+import java.util.Arrays;
+
+public enum Operation {
+    PATHS("paths"),
+    LINES("lines"),
+    CREATE_STATION("create-station"),
+    DELETE_STATION("delete-station");
+
+    private final String key;
+
+    Operation(final String key) {
+        this.key = key;
+    }
+
+    public static Operation from(final String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 요청 종류입니다. operation=" + key));
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,48 @@
+package subway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+// subway.dao의 DAO가 가진 public 메서드마다 쿼리에 걸린 시간을 잰다.
+// @Transactional과 같은 자동 프록시에 올라타므로 AspectJ가 없어도 된다.
+class DaoMetricsAdvisor extends StaticMethodMatcherPointcutAdvisor {
+    private static final String DAO_PACKAGE = "subway.dao";
+
+    // 어드바이저는 다른 빈보다 먼저 만들어지므로, 미터 레지스트리는 처음 쿼리를 잴 때 꺼낸다.
+    DaoMetricsAdvisor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        super(timeQuery(meterRegistry));
+        setClassFilter(type -> DAO_PACKAGE.equals(type.getPackageName()) && type.isAnnotationPresent(Repository.class));
+    }
+
+    private static MethodInterceptor timeQuery(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return invocation -> {
+            final Timer.Sample sample = Timer.start();
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                final Method method = invocation.getMethod();
+                sample.stop(Timer.builder("subway.dao.query")
+                        .description("DAO 메서드가 쿼리를 실행하는 데 걸린 시간")
+                        .tag("dao", method.getDeclaringClass().getSimpleName())
+                        .tag("method", method.getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry.getObject()));
+            }
+        };
+    }
+
+    @Override
+    public boolean matches(final Method method, final Class<?> targetClass) {
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass().equals(targetClass);
+    }
+}
@@ -0,0 +1,110 @@
+package subway.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import subway.domain.FareCalculator;
+import subway.domain.JgraphtNavigation;
+import subway.domain.Navigation;
+import subway.domain.SubwayFareCalculator;
+import subway.domain.graph.BidirectionalNavigation;
+import subway.domain.graph.ContractionHierarchyNavigation;
+import subway.domain.graph.CsrNavigation;
+import subway.domain.graph.DistanceMatrixNavigation;
+import subway.domain.graph.HubLabelNavigation;
+import subway.domain.graph.IncrementalNavigation;
+import subway.domain.graph.LandmarkNavigation;
+import subway.domain.graph.StationGraph;
+import subway.domain.graph.TreeCacheNavigation;
+import subway.service.NavigationContext;
+import subway.service.NavigationEngine;
+import subway.service.NavigationFactory;
+import subway.service.NavigationProperties;
+import subway.service.SimpleNavigationFactory;
+
+@Configuration
+public class NavigationConfig {
+
+    @Bean
+    public FareCalculator fareCalculator(final MeterRegistry meterRegistry) {
+        final FareCalculator fareCalculator = new SubwayFareCalculator();
+        final Timer timer = Timer.builder("subway.fare.calculate")
+                .description("거리로 요금을 계산하는 데 걸린 시간")
+                .register(meterRegistry);
+        return distance -> {
+            final long startedAt = System.nanoTime();
+            final int fare = fareCalculator.calculate(distance);
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return fare;
+        };
+    }
+
+    @Bean
+    public NavigationFactory jgraphtNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.JGRAPHT,
+                context -> JgraphtNavigation.from(context.getGraph()));
+    }
+
+    @Bean
+    public NavigationFactory csrNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.CSR,
+                context -> incremental(context, CsrNavigation::new));
+    }
+
+    @Bean
+    public NavigationFactory bidirectionalNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.BIDIRECTIONAL,
+                context -> incremental(context, BidirectionalNavigation::new));
+    }
+
+    @Bean
+    public NavigationFactory contractionHierarchyNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.CONTRACTION_HIERARCHY,
+                context -> ContractionHierarchyNavigation.from(context.getGraph()), true);
+    }
+
+    @Bean
+    public NavigationFactory landmarkNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.LANDMARK,
+                context -> new LandmarkNavigation(context.getGraph(), context.getProperties().getLandmarkCount()));
+    }
+
+    @Bean
+    public NavigationFactory distanceMatrixNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.DISTANCE_MATRIX,
+                NavigationConfig::createDistanceMatrix, true);
+    }
+
+    @Bean
+    public NavigationFactory hubLabelNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.HUB_LABEL,
+                context -> new HubLabelNavigation(context.getGraph()), true);
+    }
+
+    @Bean
+    public NavigationFactory treeCacheNavigationFactory() {
+        return new SimpleNavigationFactory(NavigationEngine.TREE_CACHE,
+                context -> incremental(context, graph -> new TreeCacheNavigation(graph, context.getTreeCache())));
+    }
+
+    // 그래프 배열만으로 탐색하는 엔진은 구간 변경을 그래프에 제자리에서 반영할 수 있다.
+    private static Navigation incremental(
+            final NavigationContext context,
+            final Function<StationGraph, Navigation> factory
+    ) {
+        final StationGraph graph = context.createEditableGraph();
+        return new IncrementalNavigation(graph, factory.apply(graph));
+    }
+
+    private static Navigation createDistanceMatrix(final NavigationContext context) {
+        final StationGraph graph = context.getGraph();
+        final NavigationProperties properties = context.getProperties();
+        if (DistanceMatrixNavigation.fits(graph, properties.getMatrixMaxStations(), properties.getMatrixMaxBytes())) {
+            return new DistanceMatrixNavigation(graph);
+        }
+        return new BidirectionalNavigation(graph);
+    }
+}
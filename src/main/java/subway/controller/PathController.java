@@ -1,13 +1,28 @@
 package subway.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Iterator;
+import java.util.List;
 import javax.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.dto.request.ReadAlternativePathRequest;
+import subway.dto.request.ReadEarliestArrivalRequest;
+import subway.dto.request.ReadPathBatchRequest;
+import subway.dto.request.ReadPathMatrixRequest;
 import subway.dto.request.ReadPathRequest;
+import subway.dto.response.EarliestArrivalResponse;
+import subway.dto.response.PathMatrixResponse;
 import subway.dto.response.PathResponse;
+import subway.dto.response.ReachableStationResponse;
 import subway.service.PathService;
 
 @RequestMapping("/paths")
@@ -15,9 +30,11 @@ import subway.service.PathService;
 public class PathController {
 
     private final PathService pathService;
+    private final ObjectMapper objectMapper;
 
-    public PathController(final PathService pathService) {
+    public PathController(final PathService pathService, final ObjectMapper objectMapper) {
         this.pathService = pathService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -25,4 +42,60 @@ public class PathController {
         final PathResponse pathResponse = pathService.findPath(pathRequest.toDto());
         return ResponseEntity.ok(pathResponse);
     }
+
+    @GetMapping("/alternatives")
+    public ResponseEntity<List<PathResponse>> findAlternativePaths(
+            @RequestBody @Valid final ReadAlternativePathRequest alternativePathRequest
+    ) {
+        final List<PathResponse> pathResponses = pathService.findAlternativePaths(alternativePathRequest.toDto());
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/transfers")
+    public ResponseEntity<List<PathResponse>> findTransferAwarePaths(@RequestBody @Valid final ReadPathRequest pathRequest) {
+        final List<PathResponse> pathResponses = pathService.findTransferAwarePaths(pathRequest.toDto());
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/earliest")
+    public ResponseEntity<EarliestArrivalResponse> findEarliestArrival(
+            @RequestBody @Valid final ReadEarliestArrivalRequest earliestArrivalRequest
+    ) {
+        final EarliestArrivalResponse earliestArrivalResponse =
+                pathService.findEarliestArrival(earliestArrivalRequest.toDto());
+        return ResponseEntity.ok(earliestArrivalResponse);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<PathResponse>> findPaths(@RequestBody @Valid final ReadPathBatchRequest batchRequest) {
+        final List<PathResponse> pathResponses = pathService.findPaths(batchRequest.toDto());
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<PathMatrixResponse> findPathMatrix(@RequestBody @Valid final ReadPathMatrixRequest matrixRequest) {
+        final PathMatrixResponse pathMatrixResponse = pathService.findPathMatrix(matrixRequest.toDto());
+        return ResponseEntity.ok(pathMatrixResponse);
+    }
+
+    // 출발역과 최대 거리는 응답을 시작하기 전에 검증되고, 역은 거리순으로 확정되는 대로 JSON 배열에 쓴다.
+    @GetMapping("/reachable")
+    public ResponseEntity<StreamingResponseBody> findReachableStations(
+            @RequestParam final String source,
+            @RequestParam final int maxDistance
+    ) {
+        final Iterator<ReachableStationResponse> responses = pathService.findReachableStations(source, maxDistance);
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                while (responses.hasNext()) {
+                    generator.writeObject(responses.next());
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,28 @@
+package subway.controller;
+
+import java.net.URI;
+import javax.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import subway.dto.request.CreateDepartureRequest;
+import subway.service.TimetableService;
+
+@RestController
+@RequestMapping("/timetables")
+public class TimetableController {
+
+    private final TimetableService timetableService;
+
+    public TimetableController(final TimetableService timetableService) {
+        this.timetableService = timetableService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> create(@RequestBody @Valid final CreateDepartureRequest createDepartureRequest) {
+        timetableService.register(createDepartureRequest.toDto());
+        return ResponseEntity.created(URI.create("/timetables")).build();
+    }
+}
@@ -0,0 +1,99 @@
+package subway.dao;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import subway.dao.entity.DepartureEntity;
+
+@Repository
+public class DepartureDao {
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String SECTION_CONDITION = "line_id = ? AND ("
+            + "(source_station_id = ? AND target_station_id = ?) OR (source_station_id = ? AND target_station_id = ?))";
+    private static final RowMapper<DepartureEntity> ENTITY_MAPPER = (rs, rowNum) ->
+            new DepartureEntity(
+                    rs.getLong("id"),
+                    rs.getLong("line_id"),
+                    rs.getLong("source_station_id"),
+                    rs.getLong("target_station_id"),
+                    rs.getInt("departure_time"),
+                    rs.getInt("arrival_time"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DepartureDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(final List<DepartureEntity> departureEntities) {
+        final String sql = "INSERT INTO departure (line_id, source_station_id, target_station_id, departure_time, arrival_time) "
+                + "values (?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, departureEntities, departureEntities.size(), ((ps, departure) -> {
+            ps.setLong(1, departure.getLineId());
+            ps.setLong(2, departure.getSourceStationId());
+            ps.setLong(3, departure.getTargetStationId());
+            ps.setInt(4, departure.getDepartureTime());
+            ps.setInt(5, departure.getArrivalTime());
+        }));
+    }
+
+    // 구간은 양방향이므로 두 역 사이를 어느 쪽으로 달리는 출발편이든 함께 찾는다.
+    public List<DepartureEntity> findBySection(final Long lineId, final Long stationId, final Long otherStationId) {
+        final String sql = "SELECT id, line_id, source_station_id, target_station_id, departure_time, arrival_time "
+                + "FROM departure WHERE " + SECTION_CONDITION;
+        return jdbcTemplate.query(sql, ENTITY_MAPPER,
+                lineId, stationId, otherStationId, otherStationId, stationId);
+    }
+
+    public int deleteBySection(final Long lineId, final Long stationId, final Long otherStationId) {
+        final String sql = "DELETE FROM departure WHERE " + SECTION_CONDITION;
+        return jdbcTemplate.update(sql, lineId, stationId, otherStationId, otherStationId, stationId);
+    }
+
+    public long count() {
+        final String sql = "SELECT COUNT(*) FROM departure";
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    // 출발 시각순으로 한 행씩 넘긴다. 같은 노선의 구간과 조인되지 않는 출발편은 빠지므로, 구간을 바꿀 때
+    // 출발편도 함께 나누거나 지워야 한다. MySQL에서는 SectionDao와 같이 useCursorFetch=true가 있어야 나눠 읽는다.
+    public void streamAllWithNames(final DepartureRowHandler handler) {
+        final String sql = "SELECT l.name AS line_name, s.name AS source_name, t.name AS target_name, "
+                + "d.departure_time, d.arrival_time, se.distance "
+                + "FROM departure d "
+                + "JOIN section se ON se.line_id = d.line_id AND ("
+                + "(se.source_station_id = d.source_station_id AND se.target_station_id = d.target_station_id) "
+                + "OR (se.source_station_id = d.target_station_id AND se.target_station_id = d.source_station_id)) "
+                + "JOIN line l ON l.id = d.line_id "
+                + "JOIN station s ON s.id = d.source_station_id "
+                + "JOIN station t ON t.id = d.target_station_id "
+                + "ORDER BY d.departure_time";
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(
+                rs.getString("line_name"),
+                rs.getString("source_name"),
+                rs.getString("target_name"),
+                rs.getInt("departure_time"),
+                rs.getInt("arrival_time"),
+                rs.getInt("distance")));
+    }
+
+    @FunctionalInterface
+    public interface DepartureRowHandler {
+
+        void handle(
+                String lineName,
+                String sourceStationName,
+                String targetStationName,
+                int departureTime,
+                int arrivalTime,
+                int distance
+        );
+    }
+}
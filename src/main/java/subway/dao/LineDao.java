@@ -37,6 +37,14 @@ public class LineDao {
         return insertAction.executeAndReturnKey(params).longValue();
     }
 
+    public void insertAll(final List<LineEntity> lineEntities) {
+        final String sql = "INSERT INTO line (name, color) values (?, ?)";
+        jdbcTemplate.batchUpdate(sql, lineEntities, lineEntities.size(), ((ps, line) -> {
+            ps.setString(1, line.getName());
+            ps.setString(2, line.getColor());
+        }));
+    }
+
     public Optional<LineEntity> findByName(final String name) {
         final String sql = "SELECT id, name, color FROM line where name = ?";
         try {
@@ -1,10 +1,12 @@
 package subway.dao;
 
+import java.sql.PreparedStatement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
@@ -12,6 +14,7 @@ import subway.dao.entity.SectionEntity;
 
 @Repository
 public class SectionDao {
+    private static final int STREAM_FETCH_SIZE = 1000;
     private static final RowMapper<SectionEntity> ENTITY_MAPPER = (rs, rowNum) ->
             new SectionEntity(
                     rs.getLong("id"),
@@ -61,9 +64,45 @@ public class SectionDao {
         return new SectionEntity(id, lineId, sourceStationId, targetStationId, distance);
     }
 
+    // 노선과 역 이름을 조인한 구간을 한 행씩 넘긴다. 결과를 리스트로 모으지 않는다.
+    // MySQL 드라이버는 접속 URL에 useCursorFetch=true가 있어야 fetch size만큼씩 나눠 읽고,
+    // 없으면 fetch size를 무시하고 결과 전체를 메모리에 올린다.
+    public void streamAllWithNames(final SectionRowHandler handler) {
+        final String sql = "SELECT l.name AS line_name, s.name AS source_name, t.name AS target_name, se.distance "
+                + "FROM section se "
+                + "JOIN line l ON l.id = se.line_id "
+                + "JOIN station s ON s.id = se.source_station_id "
+                + "JOIN station t ON t.id = se.target_station_id";
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(
+                rs.getString("line_name"),
+                rs.getString("source_name"),
+                rs.getString("target_name"),
+                rs.getInt("distance")));
+    }
+
+    // 구간이 추가, 삭제, 수정되면 개수, 가장 큰 id, 거리 합 중 하나는 바뀐다. id는 다시 쓰이지 않는다.
+    public long fingerprint() {
+        final String sql = "SELECT COUNT(*) AS section_count, COALESCE(MAX(id), 0) AS max_id, "
+                + "COALESCE(SUM(distance), 0) AS distance_sum FROM section";
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            long fingerprint = rs.getLong("section_count");
+            fingerprint = fingerprint * 31 + rs.getLong("max_id");
+            return fingerprint * 31 + rs.getLong("distance_sum");
+        });
+    }
+
     public List<SectionEntity> findAll(){
         final String sql = "SELECT id, line_id, source_station_id, target_station_id, distance FROM section";
         return jdbcTemplate.query(sql, ENTITY_MAPPER);
     }
 
+    @FunctionalInterface
+    public interface SectionRowHandler {
+
+        void handle(String lineName, String sourceStationName, String targetStationName, int distance);
+    }
 }
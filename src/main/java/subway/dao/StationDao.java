@@ -36,6 +36,11 @@ public class StationDao {
         return new StationEntity(id, name);
     }
 
+    public void insertAll(final List<String> names) {
+        final String sql = "INSERT INTO station (name) values (?)";
+        jdbcTemplate.batchUpdate(sql, names, names.size(), (ps, name) -> ps.setString(1, name));
+    }
+
     public List<StationEntity> findAll() {
         final String sql = "SELECT id, name FROM station";
         return jdbcTemplate.query(sql, ENTITY_MAPPER);
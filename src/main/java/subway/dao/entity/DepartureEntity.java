@@ -0,0 +1,61 @@
+package subway.dao.entity;
+
+public class DepartureEntity {
+
+    private final Long id;
+    private final Long lineId;
+    private final Long sourceStationId;
+    private final Long targetStationId;
+    private final Integer departureTime;
+    private final Integer arrivalTime;
+
+    public DepartureEntity(
+            final Long lineId,
+            final Long sourceStationId,
+            final Long targetStationId,
+            final Integer departureTime,
+            final Integer arrivalTime
+    ) {
+        this(null, lineId, sourceStationId, targetStationId, departureTime, arrivalTime);
+    }
+
+    public DepartureEntity(
+            final Long id,
+            final Long lineId,
+            final Long sourceStationId,
+            final Long targetStationId,
+            final Integer departureTime,
+            final Integer arrivalTime
+    ) {
+        this.id = id;
+        this.lineId = lineId;
+        this.sourceStationId = sourceStationId;
+        this.targetStationId = targetStationId;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getSourceStationId() {
+        return sourceStationId;
+    }
+
+    public Long getTargetStationId() {
+        return targetStationId;
+    }
+
+    public Integer getDepartureTime() {
+        return departureTime;
+    }
+
+    public Integer getArrivalTime() {
+        return arrivalTime;
+    }
+}
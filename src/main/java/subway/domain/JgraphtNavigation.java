@@ -1,55 +1,84 @@
 package subway.domain;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.WeightedMultigraph;
+import subway.domain.graph.StationGraph;
 
 public class JgraphtNavigation implements Navigation {
 
-    private final WeightedMultigraph<Station, DefaultWeightedEdge> graph;
+    private final WeightedMultigraph<Station, SectionEdge> graph;
 
-    private JgraphtNavigation(final WeightedMultigraph<Station, DefaultWeightedEdge> graph) {
+    private JgraphtNavigation(final WeightedMultigraph<Station, SectionEdge> graph) {
         this.graph = graph;
     }
 
-    public static JgraphtNavigation from(final List<Sections> sections) {
-        final WeightedMultigraph<Station, DefaultWeightedEdge> graph
-                = new WeightedMultigraph<>(DefaultWeightedEdge.class);
-        initialize(sections, graph);
+    public static JgraphtNavigation from(final StationGraph stationGraph) {
+        final WeightedMultigraph<Station, SectionEdge> graph = new WeightedMultigraph<>(SectionEdge.class);
+        stationGraph.forEachSection((lineName, source, target, distance) ->
+                addSection(graph, lineName, source, target, distance));
         return new JgraphtNavigation(graph);
     }
 
-    private static void initialize(
-            final List<Sections> allSections,
-            final WeightedMultigraph<Station, DefaultWeightedEdge> graph
+    private static void addSection(
+            final WeightedMultigraph<Station, SectionEdge> graph,
+            final String lineName,
+            final Station source,
+            final Station target,
+            final int distance
     ) {
-        for (Sections sections : allSections) {
-            initializeSections(graph, sections);
+        final SectionEdge edge = new SectionEdge(lineName);
+        graph.addVertex(source);
+        graph.addVertex(target);
+        graph.addEdge(source, target, edge);
+        graph.setEdgeWeight(edge, distance);
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        validateStations(source, target);
+        return toRoute(new DijkstraShortestPath<>(graph).getPath(source, target));
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        for (Station target : targets) {
+            validateStations(source, target);
+        }
+        final SingleSourcePaths<Station, SectionEdge> paths = new DijkstraShortestPath<>(graph).getPaths(source);
+        final List<Route> routes = new ArrayList<>(targets.size());
+        for (Station target : targets) {
+            routes.add(toRoute(paths.getPath(target)));
         }
+        return routes;
     }
 
-    private static void initializeSections(
-            final WeightedMultigraph<Station, DefaultWeightedEdge> graph,
-            final Sections sections
-    ) {
-        for (Section section : sections.get()) {
-            final Station source = section.getSource();
-            final Station target = section.getTarget();
-            graph.addVertex(source);
-            graph.addVertex(target);
-            graph.setEdgeWeight(graph.addEdge(source, target), section.getDistance());
+    private Route toRoute(final GraphPath<Station, SectionEdge> path) {
+        validatePath(path);
+        final List<String> lineNames = new ArrayList<>();
+        final List<Integer> distances = new ArrayList<>();
+        for (SectionEdge edge : path.getEdgeList()) {
+            lineNames.add(edge.getLineName());
+            distances.add((int) graph.getEdgeWeight(edge));
         }
+        return Route.of(path.getVertexList(), lineNames, distances);
     }
 
     @Override
-    public List<Station> getShortestPath(final Station source, final Station target) {
-        validateStations(source, target);
-        final DijkstraShortestPath<Station, Station> dijkstraShortestPath = new DijkstraShortestPath(graph);
-        final GraphPath<Station, Station> path = dijkstraShortestPath.getPath(source, target);
-        validatePath(path);
-        return dijkstraShortestPath.getPath(source, target).getVertexList();
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        for (Station target : targets) {
+            validateStations(source, target);
+        }
+        final SingleSourcePaths<Station, SectionEdge> paths = new DijkstraShortestPath<>(graph).getPaths(source);
+        final int[] distances = new int[targets.size()];
+        for (int i = 0; i < distances.length; i++) {
+            final double weight = paths.getWeight(targets.get(i));
+            distances[i] = Double.isInfinite(weight) ? UNREACHABLE : (int) weight;
+        }
+        return distances;
     }
 
     private void validateStations(final Station source, final Station target) {
@@ -66,13 +95,4 @@ public class JgraphtNavigation implements Navigation {
             throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
         }
     }
-
-    @Override
-    public int getDistance(final Station source, final Station target) {
-        validateStations(source, target);
-        final DijkstraShortestPath<Station, Station> dijkstraShortestPath = new DijkstraShortestPath(graph);
-        final GraphPath<Station, Station> path = dijkstraShortestPath.getPath(source, target);
-        validatePath(path);
-        return (int) path.getWeight();
-    }
 }
@@ -0,0 +1,27 @@
+package subway.domain;
+
+// 시각은 자정부터 지난 초로 나타낸다.
+public class Journey {
+
+    private final Route route;
+    private final int departureTime;
+    private final int arrivalTime;
+
+    public Journey(final Route route, final int departureTime, final int arrivalTime) {
+        this.route = route;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public Route getRoute() {
+        return route;
+    }
+
+    public int getDepartureTime() {
+        return departureTime;
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+}
@@ -0,0 +1,40 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Leg {
+
+    private final String lineName;
+    private final List<Station> stations;
+    private final int distance;
+
+    public Leg(final String lineName, final List<Station> stations, final int distance) {
+        this.lineName = lineName;
+        this.stations = List.copyOf(stations);
+        this.distance = distance;
+    }
+
+    public Leg reverse() {
+        final List<Station> reversed = new ArrayList<>(stations);
+        Collections.reverse(reversed);
+        return new Leg(lineName, reversed, distance);
+    }
+
+    public Station getFirstStation() {
+        return stations.get(0);
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -41,6 +41,12 @@ public class Line {
         return this.name.equals(name);
     }
 
+    // 구간은 양방향이므로 두 역이 어느 쪽으로 이어져 있어도 같은 구간으로 본다.
+    public boolean hasSectionBetween(final Station station, final Station other) {
+        return sections.get().stream()
+                .anyMatch(section -> section.contains(station) && section.contains(other));
+    }
+
     public List<Station> stations() {
         return sections.getOrderedStations();
     }
@@ -49,6 +55,10 @@ public class Line {
         return sections.get();
     }
 
+    public List<SectionChange> sectionChanges() {
+        return sections.getChanges();
+    }
+
     public String getName() {
         return name;
     }
@@ -1,10 +1,37 @@
 package subway.domain;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public interface Navigation {
+    int UNREACHABLE = -1;
+    long UNKNOWN_BYTES = -1;
 
-    List<Station> getShortestPath(final Station source, final Station target);
+    Route getRoute(final Station source, final Station target);
 
-    int getDistance(final Station source, final Station target);
+    default List<Station> getShortestPath(final Station source, final Station target) {
+        return getRoute(source, target).getStations();
+    }
+
+    default int getDistance(final Station source, final Station target) {
+        return getRoute(source, target).getDistance();
+    }
+
+    int[] getDistances(final Station source, final List<Station> targets);
+
+    default List<Route> getRoutes(final Station source, final List<Station> targets) {
+        return targets.stream()
+                .map(target -> getRoute(source, target))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    // 탐색에 쓰는 자료구조가 차지하는 대략적인 바이트 수. 알 수 없으면 UNKNOWN_BYTES를 반환한다.
+    default long estimatedBytes() {
+        return UNKNOWN_BYTES;
+    }
+
+    // 생성 보고서에 덧붙일 전처리 결과. 전처리하지 않는 엔진은 빈 문자열을 반환한다.
+    default String describe() {
+        return "";
+    }
 }
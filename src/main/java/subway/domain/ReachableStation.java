@@ -0,0 +1,20 @@
+package subway.domain;
+
+public class ReachableStation {
+
+    private final Station station;
+    private final int distance;
+
+    public ReachableStation(final Station station, final int distance) {
+        this.station = station;
+        this.distance = distance;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
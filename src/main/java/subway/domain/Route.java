@@ -0,0 +1,82 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class Route {
+
+    private final List<Station> stations;
+    private final int distance;
+    private final List<Leg> legs;
+
+    private Route(final List<Station> stations, final int distance, final List<Leg> legs) {
+        this.stations = List.copyOf(stations);
+        this.distance = distance;
+        this.legs = List.copyOf(legs);
+    }
+
+    public static Route of(final List<Station> stations, final List<String> lineNames, final List<Integer> distances) {
+        validate(stations, lineNames, distances);
+        final List<Leg> legs = new ArrayList<>();
+        int start = 0;
+        int legDistance = 0;
+        int totalDistance = 0;
+        for (int hop = 0; hop < lineNames.size(); hop++) {
+            legDistance += distances.get(hop);
+            totalDistance += distances.get(hop);
+            if (isLegEnd(lineNames, hop)) {
+                legs.add(new Leg(lineNames.get(hop), stations.subList(start, hop + 2), legDistance));
+                start = hop + 1;
+                legDistance = 0;
+            }
+        }
+        return new Route(stations, totalDistance, legs);
+    }
+
+    private static void validate(
+            final List<Station> stations,
+            final List<String> lineNames,
+            final List<Integer> distances
+    ) {
+        if (stations.isEmpty() || stations.size() != lineNames.size() + 1 || lineNames.size() != distances.size()) {
+            throw new IllegalArgumentException("경로 정보가 올바르지 않습니다.");
+        }
+    }
+
+    private static boolean isLegEnd(final List<String> lineNames, final int hop) {
+        return hop == lineNames.size() - 1 || !Objects.equals(lineNames.get(hop), lineNames.get(hop + 1));
+    }
+
+    // 구간은 양방향이므로 뒤집은 경로도 반대 방향의 최단 경로다.
+    public Route reverse() {
+        final List<Station> reversedStations = new ArrayList<>(stations);
+        Collections.reverse(reversedStations);
+        final List<Leg> reversedLegs = legs.stream()
+                .map(Leg::reverse)
+                .collect(Collectors.toList());
+        Collections.reverse(reversedLegs);
+        return new Route(reversedStations, distance, reversedLegs);
+    }
+
+    public List<Station> getTransferStations() {
+        return legs.stream()
+                .skip(1)
+                .map(Leg::getFirstStation)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+}
@@ -0,0 +1,149 @@
+package subway.domain;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// 경로는 (이름이 앞서는 역, 뒤서는 역) 방향으로 저장하고, 반대 방향 요청에는 뒤집어서 돌려준다.
+// 더 높은 버전으로 조회되면 이전 버전의 경로는 더 쓰이지 않으므로 한꺼번에 비운다.
+public class RouteCache {
+    private static final long ENTRY_BYTES = 128;
+    private static final long STATION_BYTES = 32;
+
+    private final long maxBytes;
+    private final Map<Key, Route> routes = new LinkedHashMap<>(16, 0.75f, true);
+    private long latestVersion;
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public RouteCache(final long maxBytes) {
+        validate(maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    private void validate(final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("캐시 용량은 0 이상이어야 합니다.");
+        }
+    }
+
+    public Route get(final long version, final Station source, final Station target, final Supplier<Route> loader) {
+        final boolean forward = source.getName().compareTo(target.getName()) <= 0;
+        final Key key = forward ? new Key(version, source, target) : new Key(version, target, source);
+        synchronized (this) {
+            evictOlderThan(version);
+            final Route route = routes.get(key);
+            if (route != null) {
+                hitCount++;
+                return forward ? route : route.reverse();
+            }
+            missCount++;
+        }
+        final Route route = loader.get();
+        put(key, forward ? route : route.reverse());
+        return route;
+    }
+
+    private synchronized void put(final Key key, final Route route) {
+        final long routeBytes = bytesOf(route);
+        if (key.version < latestVersion || routeBytes > maxBytes) {
+            return;
+        }
+        final Route previous = routes.put(key, route);
+        if (previous != null) {
+            bytes -= bytesOf(previous);
+        }
+        bytes += routeBytes;
+        final Iterator<Route> eldest = routes.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= bytesOf(eldest.next());
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long bytesOf(final Route route) {
+        long stationCount = route.getStations().size();
+        for (Leg leg : route.getLegs()) {
+            stationCount += leg.getStations().size();
+        }
+        return ENTRY_BYTES + STATION_BYTES * stationCount;
+    }
+
+    private void evictOlderThan(final long version) {
+        if (version <= latestVersion) {
+            return;
+        }
+        latestVersion = version;
+        final Iterator<Map.Entry<Key, Route>> entries = routes.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Key, Route> entry = entries.next();
+            if (entry.getKey().version < version) {
+                bytes -= bytesOf(entry.getValue());
+                entries.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return routes.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRatio() {
+        final long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) hitCount / requestCount;
+    }
+
+    private static final class Key {
+        private final long version;
+        private final Station first;
+        private final Station second;
+
+        private Key(final long version, final Station first, final Station second) {
+            this.version = version;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return version == key.version && Objects.equals(first, key.first) && Objects.equals(second, key.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, first, second);
+        }
+    }
+}
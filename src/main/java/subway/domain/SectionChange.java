@@ -0,0 +1,55 @@
+package subway.domain;
+
+import java.util.Objects;
+
+public class SectionChange {
+
+    private final Type type;
+    private final Section section;
+
+    private SectionChange(final Type type, final Section section) {
+        this.type = type;
+        this.section = section;
+    }
+
+    public static SectionChange added(final Section section) {
+        return new SectionChange(Type.ADDED, section);
+    }
+
+    public static SectionChange removed(final Section section) {
+        return new SectionChange(Type.REMOVED, section);
+    }
+
+    public boolean isAdded() {
+        return type == Type.ADDED;
+    }
+
+    public boolean isRemoved() {
+        return type == Type.REMOVED;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SectionChange)) {
+            return false;
+        }
+        final SectionChange that = (SectionChange) o;
+        return type == that.type && Objects.equals(section, that.section);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, section);
+    }
+
+    private enum Type {
+        ADDED, REMOVED
+    }
+}
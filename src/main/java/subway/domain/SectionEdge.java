@@ -0,0 +1,17 @@
+package subway.domain;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+class SectionEdge extends DefaultWeightedEdge {
+    private static final long serialVersionUID = 1L;
+
+    private final String lineName;
+
+    SectionEdge(final String lineName) {
+        this.lineName = lineName;
+    }
+
+    String getLineName() {
+        return lineName;
+    }
+}
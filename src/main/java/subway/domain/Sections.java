@@ -11,6 +11,7 @@ public class Sections {
     private static final int CLEAR_SECTIONS_SIZE = 1;
 
     private final List<Section> sections;
+    private final List<SectionChange> changes = new ArrayList<>();
 
     public Sections(final List<Section> sections) {
         this.sections = new ArrayList<>(sections);
@@ -18,7 +19,7 @@ public class Sections {
 
     public void register(final Station source, final Station target, final int distance) {
         if (sections.isEmpty()) {
-            sections.add(new Section(source, target, distance));
+            add(new Section(source, target, distance));
             return;
         }
         validateRegister(source, target);
@@ -64,7 +65,7 @@ public class Sections {
         if (section.isPresent()) {
             changeDistance(additional, section.get().getTarget(), section.get(), distance);
         }
-        sections.add(new Section(existence, additional, distance));
+        add(new Section(existence, additional, distance));
     }
 
     private boolean isTargetDistanceUnRegistrable(final Station existence, final int distance) {
@@ -85,8 +86,8 @@ public class Sections {
             final Section oldSection,
             final int distance
     ) {
-        sections.add(new Section(source, target, oldSection.getDistance() - distance));
-        sections.remove(oldSection);
+        add(new Section(source, target, oldSection.getDistance() - distance));
+        remove(oldSection);
     }
 
     private void registerSourceStation(final Station existence, final Station additional, final int distance) {
@@ -97,7 +98,7 @@ public class Sections {
         if (section.isPresent()) {
             changeDistance(section.get().getSource(), additional, section.get(), distance);
         }
-        sections.add(new Section(additional, existence, distance));
+        add(new Section(additional, existence, distance));
     }
 
     private boolean isSourceDistanceUnRegistrable(final Station existence, final int distance) {
@@ -117,7 +118,7 @@ public class Sections {
             throw new IllegalArgumentException("존재하지 않는 역을 삭제할 수 없습니다.");
         }
         if (sections.size() == CLEAR_SECTIONS_SIZE) {
-            sections.clear();
+            remove(sections.get(0));
             return;
         }
         handleSections(station);
@@ -135,21 +136,32 @@ public class Sections {
 
     private void mergeSections(final Optional<Section> targetSection, final Optional<Section> sourceSection) {
         final int newDistance = targetSection.get().getDistance() + sourceSection.get().getDistance();
-        sections.add(new Section(targetSection.get().getSource(), sourceSection.get().getTarget(), newDistance));
-        sections.remove(targetSection.get());
-        sections.remove(sourceSection.get());
+        add(new Section(targetSection.get().getSource(), sourceSection.get().getTarget(), newDistance));
+        remove(targetSection.get());
+        remove(sourceSection.get());
     }
 
     private void deleteLastStation(final Optional<Section> upSection, final Optional<Section> downSection) {
         if (downSection.isPresent()) {
-            sections.remove(downSection.get());
+            remove(downSection.get());
             return;
         }
         if (upSection.isPresent()) {
-            sections.remove(upSection.get());
+            remove(upSection.get());
         }
     }
 
+    // 구간 변경을 기록해 두면 경로 탐색 그래프를 전부 다시 만들지 않고 바뀐 구간만 반영할 수 있다.
+    private void add(final Section section) {
+        sections.add(section);
+        changes.add(SectionChange.added(section));
+    }
+
+    private void remove(final Section section) {
+        sections.remove(section);
+        changes.add(SectionChange.removed(section));
+    }
+
     public List<Station> getOrderedStations() {
         final Map<Station, Station> stationsChain = getStationsChain();
         final Optional<Station> firstStation = getFirstStation(stationsChain);
@@ -181,4 +193,8 @@ public class Sections {
     public List<Section> get() {
         return sections;
     }
+
+    public List<SectionChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
 }
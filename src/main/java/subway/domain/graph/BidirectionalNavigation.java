@@ -0,0 +1,127 @@
+package subway.domain.graph;
+
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class BidirectionalNavigation implements Navigation {
+    private static final int NO_MEETING = -1;
+
+    private final StationGraph graph;
+    private final ThreadLocal<SearchSpace[]> searchSpaces;
+
+    public BidirectionalNavigation(final StationGraph graph) {
+        this.graph = graph;
+        this.searchSpaces = ThreadLocal.withInitial(() -> new SearchSpace[]{
+                new SearchSpace(graph.stationCapacity()), new SearchSpace(graph.stationCapacity())});
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final SearchSpace[] spaces = searchSpaces.get();
+        final SearchSpace forward = spaces[0];
+        final SearchSpace backward = spaces[1];
+        final int meeting = search(sourceId, targetId, forward, backward);
+        if (meeting == NO_MEETING) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        return toRoute(sourceId, targetId, meeting, forward, backward);
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final SearchSpace[] spaces = searchSpaces.get();
+        final int meeting = search(sourceId, targetId, spaces[0], spaces[1]);
+        if (meeting == NO_MEETING) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        return spaces[0].distance(meeting) + spaces[1].distance(meeting);
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        return OneToManySearch.distances(graph, searchSpaces.get()[0], source, targets);
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        return OneToManySearch.routes(graph, searchSpaces.get()[0], source, targets);
+    }
+
+    private int search(final int source, final int target, final SearchSpace forward, final SearchSpace backward) {
+        forward.reset();
+        backward.reset();
+        forward.start(source);
+        backward.start(target);
+        if (source == target) {
+            return source;
+        }
+        int best = SearchSpace.UNREACHABLE;
+        int meeting = NO_MEETING;
+        while (forward.hasNext() && backward.hasNext()) {
+            if ((long) forward.peekDistance() + backward.peekDistance() >= best) {
+                break;
+            }
+            final boolean forwardTurn = forward.peekDistance() <= backward.peekDistance();
+            final SearchSpace current = forwardTurn ? forward : backward;
+            final SearchSpace opposite = forwardTurn ? backward : forward;
+            final int station = current.settleNext();
+            final int distance = current.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int next = graph.targets[arc];
+                final int candidate = distance + graph.weights[arc];
+                current.relax(next, station, arc, candidate);
+                if (opposite.isReached(next)) {
+                    final long total = (long) current.distance(next) + opposite.distance(next);
+                    if (total < best) {
+                        best = (int) total;
+                        meeting = next;
+                    }
+                }
+            }
+        }
+        return meeting;
+    }
+
+    private Route toRoute(
+            final int source,
+            final int target,
+            final int meeting,
+            final SearchSpace forward,
+            final SearchSpace backward
+    ) {
+        int forwardArcs = 0;
+        for (int station = meeting; station != source; station = forward.parent(station)) {
+            forwardArcs++;
+        }
+        int backwardArcs = 0;
+        for (int station = meeting; station != target; station = backward.parent(station)) {
+            backwardArcs++;
+        }
+        final int arcCount = forwardArcs + backwardArcs;
+        final int[] stations = new int[arcCount + 1];
+        final int[] arcs = new int[arcCount];
+        int index = forwardArcs;
+        for (int station = meeting; station != source; station = forward.parent(station)) {
+            stations[index] = station;
+            arcs[--index] = forward.parentArc(station);
+        }
+        stations[0] = source;
+        index = forwardArcs;
+        for (int station = meeting; station != target; station = backward.parent(station)) {
+            arcs[index] = backward.parentArc(station);
+            stations[++index] = backward.parent(station);
+        }
+        return graph.toRoute(stations, arcs, arcCount);
+    }
+}
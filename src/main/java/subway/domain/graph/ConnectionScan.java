@@ -0,0 +1,209 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import subway.domain.Journey;
+import subway.domain.Route;
+import subway.domain.Station;
+
+// 출발편(연결)을 출발 시각순으로 늘어놓은 배열을 한 번 훑어 가장 이른 도착 시각을 구한다.
+// 연결마다 출발역, 도착역, 시각을 따로 된 배열에 두어 훑는 동안 메모리를 순서대로 읽는다.
+public class ConnectionScan {
+    private static final int NOT_ARRIVED = Integer.MAX_VALUE;
+    private static final int NO_CONNECTION = -1;
+
+    private final List<String> stationNames;
+    private final Map<String, Integer> stationIds;
+    private final List<String> lineNames;
+    private final int[] departureStations;
+    private final int[] arrivalStations;
+    private final int[] departureTimes;
+    private final int[] arrivalTimes;
+    private final int[] distances;
+    private final int[] lines;
+    private final ThreadLocal<int[]> arrivals;
+    private final ThreadLocal<int[]> incomingConnections;
+
+    private ConnectionScan(
+            final List<String> stationNames,
+            final Map<String, Integer> stationIds,
+            final List<String> lineNames,
+            final int[] departureStations,
+            final int[] arrivalStations,
+            final int[] departureTimes,
+            final int[] arrivalTimes,
+            final int[] distances,
+            final int[] lines
+    ) {
+        this.stationNames = stationNames;
+        this.stationIds = stationIds;
+        this.lineNames = lineNames;
+        this.departureStations = departureStations;
+        this.arrivalStations = arrivalStations;
+        this.departureTimes = departureTimes;
+        this.arrivalTimes = arrivalTimes;
+        this.distances = distances;
+        this.lines = lines;
+        this.arrivals = ThreadLocal.withInitial(() -> new int[stationNames.size()]);
+        this.incomingConnections = ThreadLocal.withInitial(() -> new int[stationNames.size()]);
+    }
+
+    public int connectionCount() {
+        return departureTimes.length;
+    }
+
+    // departureTime 이후에 출발역을 떠나 도착역에 가장 일찍 닿는 여정을 구한다.
+    public Journey findEarliestArrival(final Station source, final Station target, final int departureTime) {
+        validate(departureTime);
+        final int sourceId = idOf(source, "출발역을 지나는 출발편이 존재하지 않습니다.");
+        final int targetId = idOf(target, "도착역을 지나는 출발편이 존재하지 않습니다.");
+        if (sourceId == targetId) {
+            return new Journey(Route.of(List.of(source), List.of(), List.of()), departureTime, departureTime);
+        }
+        final int[] arrival = arrivals.get();
+        final int[] incoming = incomingConnections.get();
+        Arrays.fill(arrival, NOT_ARRIVED);
+        arrival[sourceId] = departureTime;
+        for (int connection = firstDepartureAtOrAfter(departureTime); connection < departureTimes.length; connection++) {
+            if (departureTimes[connection] >= arrival[targetId]) {
+                break;
+            }
+            final int next = arrivalStations[connection];
+            if (arrival[departureStations[connection]] <= departureTimes[connection]
+                    && arrivalTimes[connection] < arrival[next]) {
+                arrival[next] = arrivalTimes[connection];
+                incoming[next] = connection;
+            }
+        }
+        if (arrival[targetId] == NOT_ARRIVED) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        return toJourney(sourceId, targetId, incoming, arrival[targetId]);
+    }
+
+    private void validate(final int departureTime) {
+        if (departureTime < 0) {
+            throw new IllegalArgumentException("출발 시각은 0 이상이어야 합니다.");
+        }
+    }
+
+    private int idOf(final Station station, final String message) {
+        final Integer id = stationIds.get(station.getName());
+        if (id == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return id;
+    }
+
+    private int firstDepartureAtOrAfter(final int time) {
+        int low = 0;
+        int high = departureTimes.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (departureTimes[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Journey toJourney(final int source, final int target, final int[] incoming, final int arrivalTime) {
+        final IntArrayList connections = new IntArrayList();
+        for (int station = target; station != source; station = departureStations[incoming[station]]) {
+            connections.add(incoming[station]);
+        }
+        final int count = connections.size();
+        final List<Station> routeStations = new ArrayList<>(count + 1);
+        final List<String> routeLineNames = new ArrayList<>(count);
+        final List<Integer> routeDistances = new ArrayList<>(count);
+        routeStations.add(new Station(stationNames.get(source)));
+        for (int index = count - 1; index >= 0; index--) {
+            final int connection = connections.get(index);
+            routeStations.add(new Station(stationNames.get(arrivalStations[connection])));
+            routeLineNames.add(lineNames.get(lines[connection]));
+            routeDistances.add(distances[connection]);
+        }
+        final int firstDeparture = departureTimes[connections.get(count - 1)];
+        return new Journey(Route.of(routeStations, routeLineNames, routeDistances), firstDeparture, arrivalTime);
+    }
+
+    public static class Builder {
+
+        private final Map<String, Integer> stationIds = new HashMap<>();
+        private final List<String> stationNames = new ArrayList<>();
+        private final Map<String, Integer> lineIds = new HashMap<>();
+        private final List<String> lineNames = new ArrayList<>();
+        private final IntArrayList departureStations = new IntArrayList();
+        private final IntArrayList arrivalStations = new IntArrayList();
+        private final IntArrayList departureTimes = new IntArrayList();
+        private final IntArrayList arrivalTimes = new IntArrayList();
+        private final IntArrayList distances = new IntArrayList();
+        private final IntArrayList lines = new IntArrayList();
+
+        public void addConnection(
+                final String lineName,
+                final String sourceStationName,
+                final String targetStationName,
+                final int departureTime,
+                final int arrivalTime,
+                final int distance
+        ) {
+            if (arrivalTime <= departureTime) {
+                throw new IllegalArgumentException("도착 시각은 출발 시각보다 늦어야 합니다.");
+            }
+            departureStations.add(addStation(sourceStationName));
+            arrivalStations.add(addStation(targetStationName));
+            departureTimes.add(departureTime);
+            arrivalTimes.add(arrivalTime);
+            distances.add(distance);
+            lines.add(lineIds.computeIfAbsent(lineName, ignored -> {
+                lineNames.add(lineName);
+                return lineNames.size() - 1;
+            }));
+        }
+
+        private int addStation(final String name) {
+            return stationIds.computeIfAbsent(name, ignored -> {
+                stationNames.add(name);
+                return stationNames.size() - 1;
+            });
+        }
+
+        // 출발 시각과 추가된 순서를 한 long에 담아 정렬하므로 박싱 없이 안정적으로 정렬된다.
+        public ConnectionScan build() {
+            final int count = departureTimes.size();
+            final long[] keys = new long[count];
+            for (int index = 0; index < count; index++) {
+                keys[index] = (long) departureTimes.get(index) << Integer.SIZE | index;
+            }
+            Arrays.sort(keys);
+            final int[] order = new int[count];
+            for (int index = 0; index < count; index++) {
+                order[index] = (int) keys[index];
+            }
+            return new ConnectionScan(
+                    new ArrayList<>(stationNames),
+                    new HashMap<>(stationIds),
+                    new ArrayList<>(lineNames),
+                    reorder(departureStations, order),
+                    reorder(arrivalStations, order),
+                    reorder(departureTimes, order),
+                    reorder(arrivalTimes, order),
+                    reorder(distances, order),
+                    reorder(lines, order));
+        }
+
+        private static int[] reorder(final IntArrayList values, final int[] order) {
+            final int[] reordered = new int[order.length];
+            for (int index = 0; index < order.length; index++) {
+                reordered[index] = values.get(order[index]);
+            }
+            return reordered;
+        }
+    }
+}
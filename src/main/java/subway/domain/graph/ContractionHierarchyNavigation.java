@@ -0,0 +1,451 @@
+package subway.domain.graph;
+
+import java.util.List;
+import java.util.Random;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class ContractionHierarchyNavigation implements Navigation {
+    private static final int NO_MEETING = -1;
+    private static final int NOT_SHORTCUT = -1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int SPEEDUP_SAMPLES = 200;
+    private static final long SPEEDUP_SEED = 20230517L;
+
+    private final StationGraph graph;
+    private final int[] upwardOffsets;
+    private final int[] upwardTargets;
+    private final int[] upwardWeights;
+    private final int[] upwardEdges;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final int[] edgeMiddles;
+    private final int[] edgeFirstChildren;
+    private final int[] edgeSecondChildren;
+    private final int[] edgeArcs;
+    private final int shortcutCount;
+    private final long preprocessingNanos;
+    private final ThreadLocal<SearchSpace[]> searchSpaces;
+
+    private ContractionHierarchyNavigation(
+            final StationGraph graph,
+            final Contraction contraction,
+            final long preprocessingNanos
+    ) {
+        this.graph = graph;
+        this.edgeSources = contraction.sources.toArray();
+        this.edgeTargets = contraction.targets.toArray();
+        this.edgeMiddles = contraction.middles.toArray();
+        this.edgeFirstChildren = contraction.firstChildren.toArray();
+        this.edgeSecondChildren = contraction.secondChildren.toArray();
+        this.edgeArcs = contraction.arcs.toArray();
+        this.shortcutCount = contraction.shortcutCount;
+        this.preprocessingNanos = preprocessingNanos;
+        final int stationCount = graph.stationCount();
+        final int[] ranks = contraction.ranks;
+        final int[] weights = contraction.weights.toArray();
+        this.upwardOffsets = new int[stationCount + 1];
+        for (int edge = 0; edge < edgeSources.length; edge++) {
+            upwardOffsets[lowerEnd(edge, ranks) + 1]++;
+        }
+        for (int station = 0; station < stationCount; station++) {
+            upwardOffsets[station + 1] += upwardOffsets[station];
+        }
+        final int[] cursors = upwardOffsets.clone();
+        this.upwardTargets = new int[edgeSources.length];
+        this.upwardWeights = new int[edgeSources.length];
+        this.upwardEdges = new int[edgeSources.length];
+        for (int edge = 0; edge < edgeSources.length; edge++) {
+            final int lower = lowerEnd(edge, ranks);
+            final int index = cursors[lower]++;
+            upwardTargets[index] = otherEnd(edge, lower);
+            upwardWeights[index] = weights[edge];
+            upwardEdges[index] = edge;
+        }
+        this.searchSpaces = ThreadLocal.withInitial(() -> new SearchSpace[]{
+                new SearchSpace(stationCount), new SearchSpace(stationCount)});
+    }
+
+    public static ContractionHierarchyNavigation from(final StationGraph graph) {
+        final long startedAt = System.nanoTime();
+        final Contraction contraction = new Contraction(graph);
+        contraction.contractAll();
+        return new ContractionHierarchyNavigation(graph, contraction, System.nanoTime() - startedAt);
+    }
+
+    private int lowerEnd(final int edge, final int[] ranks) {
+        if (ranks[edgeSources[edge]] < ranks[edgeTargets[edge]]) {
+            return edgeSources[edge];
+        }
+        return edgeTargets[edge];
+    }
+
+    private int otherEnd(final int edge, final int station) {
+        if (edgeSources[edge] == station) {
+            return edgeTargets[edge];
+        }
+        return edgeSources[edge];
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes() + Integer.BYTES * ((long) upwardOffsets.length + upwardTargets.length
+                + upwardWeights.length + upwardEdges.length + edgeSources.length + edgeTargets.length
+                + edgeMiddles.length + edgeFirstChildren.length + edgeSecondChildren.length + edgeArcs.length);
+    }
+
+    @Override
+    public String describe() {
+        return report().toString();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final SearchSpace[] spaces = searchSpaces.get();
+        final int meeting = search(sourceId, targetId, spaces[0], spaces[1]);
+        validateReachable(meeting != NO_MEETING);
+        return unpack(sourceId, targetId, meeting, spaces[0], spaces[1]);
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final int distance = distance(graph.sourceIdOf(source), graph.targetIdOf(target));
+        validateReachable(distance != SearchSpace.UNREACHABLE);
+        return distance;
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        return OneToManySearch.distances(graph, searchSpaces.get()[0], source, targets);
+    }
+
+    private void validateReachable(final boolean reachable) {
+        if (!reachable) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+    }
+
+    int distance(final int source, final int target) {
+        final SearchSpace[] spaces = searchSpaces.get();
+        final int meeting = search(source, target, spaces[0], spaces[1]);
+        if (meeting == NO_MEETING) {
+            return SearchSpace.UNREACHABLE;
+        }
+        return spaces[0].distance(meeting) + spaces[1].distance(meeting);
+    }
+
+    private int search(final int source, final int target, final SearchSpace forward, final SearchSpace backward) {
+        forward.reset();
+        backward.reset();
+        forward.start(source);
+        backward.start(target);
+        int best = SearchSpace.UNREACHABLE;
+        int meeting = NO_MEETING;
+        while (forward.peekDistance() < best || backward.peekDistance() < best) {
+            final boolean forwardTurn = forward.peekDistance() <= backward.peekDistance();
+            final SearchSpace current = forwardTurn ? forward : backward;
+            final SearchSpace opposite = forwardTurn ? backward : forward;
+            final int station = current.settleNext();
+            final int distance = current.distance(station);
+            if (opposite.isReached(station) && (long) distance + opposite.distance(station) < best) {
+                best = distance + opposite.distance(station);
+                meeting = station;
+            }
+            for (int index = upwardOffsets[station], end = upwardOffsets[station + 1]; index < end; index++) {
+                current.relax(upwardTargets[index], station, upwardEdges[index], distance + upwardWeights[index]);
+            }
+        }
+        return meeting;
+    }
+
+    private Route unpack(
+            final int source,
+            final int target,
+            final int meeting,
+            final SearchSpace forward,
+            final SearchSpace backward
+    ) {
+        final IntArrayList edges = new IntArrayList();
+        for (int station = meeting; station != source; station = forward.parent(station)) {
+            edges.add(forward.parentArc(station));
+        }
+        final IntArrayList stations = new IntArrayList();
+        final IntArrayList arcs = new IntArrayList();
+        stations.add(source);
+        int current = source;
+        for (int i = edges.size() - 1; i >= 0; i--) {
+            current = unpackEdge(edges.get(i), current, stations, arcs);
+        }
+        for (int station = meeting; station != target; station = backward.parent(station)) {
+            current = unpackEdge(backward.parentArc(station), current, stations, arcs);
+        }
+        return graph.toRoute(stations.toArray(), arcs.toArray(), arcs.size());
+    }
+
+    private int unpackEdge(final int edge, final int from, final IntArrayList stations, final IntArrayList arcs) {
+        final IntArrayList pendingEdges = new IntArrayList();
+        final IntArrayList pendingStarts = new IntArrayList();
+        pendingEdges.add(edge);
+        pendingStarts.add(from);
+        int current = from;
+        while (pendingEdges.size() > 0) {
+            final int last = pendingEdges.size() - 1;
+            final int next = pendingEdges.get(last);
+            final int start = pendingStarts.get(last);
+            pendingEdges.removeLast();
+            pendingStarts.removeLast();
+            final int middle = edgeMiddles[next];
+            if (middle == NOT_SHORTCUT) {
+                current = otherEnd(next, start);
+                stations.add(current);
+                arcs.add(edgeArcs[next]);
+                continue;
+            }
+            final int first = touches(edgeFirstChildren[next], start) ? edgeFirstChildren[next] : edgeSecondChildren[next];
+            final int second = first == edgeFirstChildren[next] ? edgeSecondChildren[next] : edgeFirstChildren[next];
+            pendingEdges.add(second);
+            pendingStarts.add(middle);
+            pendingEdges.add(first);
+            pendingStarts.add(start);
+        }
+        return current;
+    }
+
+    private boolean touches(final int edge, final int station) {
+        return edgeSources[edge] == station || edgeTargets[edge] == station;
+    }
+
+    // 생성 보고서에 남기는 값은 만들 때 이미 센 것만 담는다.
+    public ContractionHierarchyReport report() {
+        return new ContractionHierarchyReport(preprocessingNanos, shortcutCount);
+    }
+
+    // 다익스트라와 같은 표본 질의를 견줘 속도 향상을 잰다. 질의를 수백 번 돌리므로 테스트와 벤치마크에서만 부른다.
+    public ContractionHierarchyReport measureSpeedup() {
+        final CsrNavigation dijkstra = new CsrNavigation(graph);
+        final int stationCount = graph.stationCount();
+        if (stationCount == 0) {
+            return report();
+        }
+        final Random random = new Random(SPEEDUP_SEED);
+        final int[] sources = new int[SPEEDUP_SAMPLES];
+        final int[] targets = new int[SPEEDUP_SAMPLES];
+        for (int i = 0; i < SPEEDUP_SAMPLES; i++) {
+            sources[i] = random.nextInt(stationCount);
+            targets[i] = random.nextInt(stationCount);
+        }
+        final long dijkstraNanos = measure(sources, targets, dijkstra::distance);
+        final long hierarchyNanos = measure(sources, targets, this::distance);
+        return new ContractionHierarchyReport(preprocessingNanos, shortcutCount, dijkstraNanos, hierarchyNanos);
+    }
+
+    private long measure(final int[] sources, final int[] targets, final DistanceQuery query) {
+        for (int i = 0; i < sources.length; i++) {
+            query.distance(sources[i], targets[i]);
+        }
+        final long startedAt = System.nanoTime();
+        for (int i = 0; i < sources.length; i++) {
+            query.distance(sources[i], targets[i]);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private interface DistanceQuery {
+        int distance(int source, int target);
+    }
+
+    private static class Contraction {
+
+        private final StationGraph graph;
+        private final IntArrayList sources = new IntArrayList();
+        private final IntArrayList targets = new IntArrayList();
+        private final IntArrayList weights = new IntArrayList();
+        private final IntArrayList middles = new IntArrayList();
+        private final IntArrayList firstChildren = new IntArrayList();
+        private final IntArrayList secondChildren = new IntArrayList();
+        private final IntArrayList arcs = new IntArrayList();
+        private final IntArrayList[] incidentEdges;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] ranks;
+        private final int[] neighborMarks;
+        private final int[] neighborEdges;
+        private final IntArrayList neighbors = new IntArrayList();
+        private final SearchSpace witnessSpace;
+        private int neighborStamp;
+        private int shortcutCount;
+
+        private Contraction(final StationGraph graph) {
+            this.graph = graph;
+            final int stationCount = graph.stationCount();
+            this.incidentEdges = new IntArrayList[stationCount];
+            for (int station = 0; station < stationCount; station++) {
+                incidentEdges[station] = new IntArrayList(4);
+            }
+            this.contracted = new boolean[stationCount];
+            this.contractedNeighbors = new int[stationCount];
+            this.ranks = new int[stationCount];
+            this.neighborMarks = new int[stationCount];
+            this.neighborEdges = new int[stationCount];
+            this.witnessSpace = new SearchSpace(stationCount);
+            for (int station = 0; station < stationCount; station++) {
+                for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                    final int target = graph.targets[arc];
+                    if (station < target) {
+                        addEdge(station, target, graph.weights[arc], NOT_SHORTCUT, -1, -1, arc);
+                    }
+                }
+            }
+        }
+
+        private int addEdge(
+                final int source,
+                final int target,
+                final int weight,
+                final int middle,
+                final int firstChild,
+                final int secondChild,
+                final int arc
+        ) {
+            final int edge = sources.size();
+            sources.add(source);
+            targets.add(target);
+            weights.add(weight);
+            middles.add(middle);
+            firstChildren.add(firstChild);
+            secondChildren.add(secondChild);
+            arcs.add(arc);
+            incidentEdges[source].add(edge);
+            incidentEdges[target].add(edge);
+            return edge;
+        }
+
+        private void contractAll() {
+            final int stationCount = graph.stationCount();
+            final IntMinHeap queue = new IntMinHeap(stationCount);
+            for (int station = 0; station < stationCount; station++) {
+                queue.insertOrDecrease(station, priority(station));
+            }
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                final int station = queue.poll();
+                final int priority = priority(station);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.insertOrDecrease(station, priority);
+                    continue;
+                }
+                contract(station);
+                ranks[station] = rank++;
+            }
+        }
+
+        private int priority(final int station) {
+            collectNeighbors(station);
+            final int degree = neighbors.size();
+            final int shortcuts = shortcutsFor(station, false);
+            return shortcuts - degree + contractedNeighbors[station];
+        }
+
+        private void contract(final int station) {
+            collectNeighbors(station);
+            shortcutsFor(station, true);
+            contracted[station] = true;
+            for (int i = 0; i < neighbors.size(); i++) {
+                contractedNeighbors[neighbors.get(i)]++;
+            }
+        }
+
+        private void collectNeighbors(final int station) {
+            neighborStamp++;
+            neighbors.clear();
+            final IntArrayList edges = incidentEdges[station];
+            for (int i = 0; i < edges.size(); i++) {
+                final int edge = edges.get(i);
+                final int neighbor = sources.get(edge) == station ? targets.get(edge) : sources.get(edge);
+                if (contracted[neighbor]) {
+                    continue;
+                }
+                if (neighborMarks[neighbor] != neighborStamp) {
+                    neighborMarks[neighbor] = neighborStamp;
+                    neighborEdges[neighbor] = edge;
+                    neighbors.add(neighbor);
+                } else if (weights.get(edge) < weights.get(neighborEdges[neighbor])) {
+                    neighborEdges[neighbor] = edge;
+                }
+            }
+        }
+
+        private int shortcutsFor(final int station, final boolean add) {
+            final int[] candidates = neighbors.toArray();
+            final int[] candidateEdges = new int[candidates.length];
+            int maxWeight = 0;
+            for (int i = 0; i < candidates.length; i++) {
+                candidateEdges[i] = neighborEdges[candidates[i]];
+                maxWeight = Math.max(maxWeight, weights.get(candidateEdges[i]));
+            }
+            int count = 0;
+            for (int i = 0; i < candidates.length; i++) {
+                final int inWeight = weights.get(candidateEdges[i]);
+                witnessSearch(candidates[i], station, inWeight + maxWeight);
+                for (int j = i + 1; j < candidates.length; j++) {
+                    final int viaWeight = inWeight + weights.get(candidateEdges[j]);
+                    if (witnessSpace.distance(candidates[j]) <= viaWeight) {
+                        continue;
+                    }
+                    count++;
+                    if (add) {
+                        addShortcut(candidates[i], candidates[j], viaWeight, station, candidateEdges[i], candidateEdges[j]);
+                    }
+                }
+            }
+            return count;
+        }
+
+        private void witnessSearch(final int source, final int excluded, final int maxDistance) {
+            witnessSpace.reset();
+            witnessSpace.start(source);
+            int settledCount = 0;
+            while (witnessSpace.hasNext() && settledCount < WITNESS_SETTLE_LIMIT) {
+                if (witnessSpace.peekDistance() > maxDistance) {
+                    return;
+                }
+                final int station = witnessSpace.settleNext();
+                settledCount++;
+                final int distance = witnessSpace.distance(station);
+                final IntArrayList edges = incidentEdges[station];
+                for (int i = 0; i < edges.size(); i++) {
+                    final int edge = edges.get(i);
+                    final int next = sources.get(edge) == station ? targets.get(edge) : sources.get(edge);
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    witnessSpace.relax(next, station, edge, distance + weights.get(edge));
+                }
+            }
+        }
+
+        private void addShortcut(
+                final int source,
+                final int target,
+                final int weight,
+                final int middle,
+                final int firstChild,
+                final int secondChild
+        ) {
+            final IntArrayList edges = incidentEdges[source];
+            for (int i = 0; i < edges.size(); i++) {
+                final int edge = edges.get(i);
+                final boolean sameEnds = (sources.get(edge) == source && targets.get(edge) == target)
+                        || (sources.get(edge) == target && targets.get(edge) == source);
+                if (sameEnds && weights.get(edge) <= weight) {
+                    return;
+                }
+            }
+            addEdge(source, target, weight, middle, firstChild, secondChild, -1);
+            shortcutCount++;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package subway.domain.graph;
+
+import java.util.concurrent.TimeUnit;
+
+public class ContractionHierarchyReport {
+
+    private final long preprocessingNanos;
+    private final int shortcutCount;
+    private final long dijkstraQueryNanos;
+    private final long hierarchyQueryNanos;
+
+    public ContractionHierarchyReport(final long preprocessingNanos, final int shortcutCount) {
+        this(preprocessingNanos, shortcutCount, 0, 0);
+    }
+
+    public ContractionHierarchyReport(
+            final long preprocessingNanos,
+            final int shortcutCount,
+            final long dijkstraQueryNanos,
+            final long hierarchyQueryNanos
+    ) {
+        this.preprocessingNanos = preprocessingNanos;
+        this.shortcutCount = shortcutCount;
+        this.dijkstraQueryNanos = dijkstraQueryNanos;
+        this.hierarchyQueryNanos = hierarchyQueryNanos;
+    }
+
+    public long getPreprocessingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(preprocessingNanos);
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    public boolean isSpeedupMeasured() {
+        return hierarchyQueryNanos > 0;
+    }
+
+    public double getSpeedup() {
+        if (hierarchyQueryNanos == 0) {
+            return 0;
+        }
+        return (double) dijkstraQueryNanos / hierarchyQueryNanos;
+    }
+
+    @Override
+    public String toString() {
+        if (!isSpeedupMeasured()) {
+            return String.format("preprocessing=%dms, shortcuts=%d", getPreprocessingMillis(), shortcutCount);
+        }
+        return String.format("preprocessing=%dms, shortcuts=%d, speedup=%.1fx",
+                getPreprocessingMillis(), shortcutCount, getSpeedup());
+    }
+}
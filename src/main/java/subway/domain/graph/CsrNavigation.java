@@ -0,0 +1,85 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class CsrNavigation implements Navigation {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+
+    public CsrNavigation(final StationGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final int stationCount = graph.stationCount();
+        final int[] distances = new int[stationCount];
+        final int[] parents = new int[stationCount];
+        final int[] parentArcs = new int[stationCount];
+        Arrays.fill(distances, INFINITY);
+        search(sourceId, targetId, distances, parents, parentArcs, new IntMinHeap(stationCount));
+        if (distances[targetId] == INFINITY) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        return graph.toRoute(sourceId, targetId, parents, parentArcs);
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        return OneToManySearch.distances(graph, new SearchSpace(graph.stationCount()), source, targets);
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        return OneToManySearch.routes(graph, new SearchSpace(graph.stationCount()), source, targets);
+    }
+
+    int distance(final int source, final int target) {
+        final int stationCount = graph.stationCount();
+        final int[] distances = new int[stationCount];
+        Arrays.fill(distances, INFINITY);
+        search(source, target, distances, new int[stationCount], new int[stationCount], new IntMinHeap(stationCount));
+        return distances[target];
+    }
+
+    private void search(
+            final int source,
+            final int target,
+            final int[] distances,
+            final int[] parents,
+            final int[] parentArcs,
+            final IntMinHeap heap
+    ) {
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            final int station = heap.poll();
+            if (station == target) {
+                return;
+            }
+            final int distance = distances[station];
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int next = graph.targets[arc];
+                final int candidate = distance + graph.weights[arc];
+                if (candidate < distances[next]) {
+                    distances[next] = candidate;
+                    parents[next] = station;
+                    parentArcs[next] = arc;
+                    heap.insertOrDecrease(next, candidate);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package subway.domain.graph;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class DistanceMatrixNavigation implements Navigation {
+    private static final int NO_HOP = -1;
+    private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final StationGraph graph;
+    private final int stationCount;
+    private final int[] distances;
+    private final int[] hops;
+
+    public DistanceMatrixNavigation(final StationGraph graph) {
+        validate(graph.stationCount());
+        this.graph = graph;
+        this.stationCount = graph.stationCount();
+        this.distances = new int[stationCount * stationCount];
+        this.hops = new int[stationCount * stationCount];
+        final ThreadLocal<SearchSpace> searchSpaces = ThreadLocal.withInitial(() -> new SearchSpace(stationCount));
+        IntStream.range(0, stationCount)
+                .parallel()
+                .forEach(target -> fillRow(target, searchSpaces.get()));
+    }
+
+    public static boolean fits(final StationGraph graph, final int maxStationCount, final long maxBytes) {
+        final long cells = (long) graph.stationCount() * graph.stationCount();
+        return graph.stationCount() <= maxStationCount && cells <= MAX_CELLS
+                && matrixBytes(graph.stationCount()) <= maxBytes;
+    }
+
+    // 거리와 다음 구간을 역 수의 제곱만큼 담으므로 역이 4000개면 행렬만 128MB가 된다.
+    public static long matrixBytes(final int stationCount) {
+        return 2L * Integer.BYTES * stationCount * stationCount;
+    }
+
+    private void validate(final int stationCount) {
+        if ((long) stationCount * stationCount > MAX_CELLS) {
+            throw new IllegalArgumentException("역이 너무 많아 거리 행렬을 만들 수 없습니다.");
+        }
+    }
+
+    // 그래프가 무방향이므로 target 행에는 target을 뿌리로 하는 최단 경로 트리를 담는다.
+    // 각 칸의 hop은 그 역에서 target 쪽으로 한 칸 다가가는 구간이다.
+    private void fillRow(final int target, final SearchSpace space) {
+        space.reset();
+        space.start(target);
+        while (space.hasNext()) {
+            final int station = space.settleNext();
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                space.relax(graph.targets[arc], station, arc, distance + graph.weights[arc]);
+            }
+        }
+        final int row = target * stationCount;
+        for (int station = 0; station < stationCount; station++) {
+            distances[row + station] = space.distance(station);
+            hops[row + station] = space.isReached(station) ? space.parentArc(station) : NO_HOP;
+        }
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes() + Integer.BYTES * ((long) distances.length + hops.length);
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final int row = targetId * stationCount;
+        validateReachable(distances[row + sourceId]);
+        int arcCount = 0;
+        for (int station = sourceId; station != targetId; station = graph.sourceOf(hops[row + station])) {
+            arcCount++;
+        }
+        final int[] stations = new int[arcCount + 1];
+        final int[] arcs = new int[arcCount];
+        stations[0] = sourceId;
+        for (int index = 0; index < arcCount; index++) {
+            arcs[index] = hops[row + stations[index]];
+            stations[index + 1] = graph.sourceOf(arcs[index]);
+        }
+        return graph.toRoute(stations, arcs, arcCount);
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final int distance = distance(graph.sourceIdOf(source), graph.targetIdOf(target));
+        validateReachable(distance);
+        return distance;
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int[] distances = new int[targets.size()];
+        for (int i = 0; i < distances.length; i++) {
+            final int distance = distance(sourceId, graph.targetIdOf(targets.get(i)));
+            distances[i] = distance == SearchSpace.UNREACHABLE ? UNREACHABLE : distance;
+        }
+        return distances;
+    }
+
+    private void validateReachable(final int distance) {
+        if (distance == SearchSpace.UNREACHABLE) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+    }
+
+    int distance(final int source, final int target) {
+        return distances[target * stationCount + source];
+    }
+}
@@ -0,0 +1,199 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+// 역마다 (허브, 거리) 레이블을 두어 두 역의 레이블에 공통으로 있는 허브로 거리를 구한다.
+// 레이블은 허브 순위 순서로 저장되므로 거리 조회는 두 정렬된 배열을 한 번 병합하는 것으로 끝난다.
+public class HubLabelNavigation implements Navigation {
+
+    private final StationGraph graph;
+    private final int[] labelOffsets;
+    private final int[] labelHubs;
+    private final int[] labelDistances;
+    private final long labelBytes;
+    private final long preprocessingNanos;
+
+    public HubLabelNavigation(final StationGraph graph) {
+        final long startedAt = System.nanoTime();
+        this.graph = graph;
+        final int stationCount = graph.stationCount();
+        final IntArrayList[] hubs = new IntArrayList[stationCount];
+        final IntArrayList[] distances = new IntArrayList[stationCount];
+        for (int station = 0; station < stationCount; station++) {
+            hubs[station] = new IntArrayList();
+            distances[station] = new IntArrayList();
+        }
+        final int[] order = orderByDegree();
+        final int[] rootDistances = new int[stationCount];
+        Arrays.fill(rootDistances, SearchSpace.UNREACHABLE);
+        final SearchSpace space = new SearchSpace(stationCount);
+        for (int rank = 0; rank < stationCount; rank++) {
+            prunedSearch(order[rank], rank, hubs, distances, rootDistances, space);
+        }
+        this.labelOffsets = new int[stationCount + 1];
+        for (int station = 0; station < stationCount; station++) {
+            labelOffsets[station + 1] = labelOffsets[station] + hubs[station].size();
+        }
+        this.labelHubs = new int[labelOffsets[stationCount]];
+        this.labelDistances = new int[labelOffsets[stationCount]];
+        for (int station = 0; station < stationCount; station++) {
+            for (int index = 0; index < hubs[station].size(); index++) {
+                labelHubs[labelOffsets[station] + index] = hubs[station].get(index);
+                labelDistances[labelOffsets[station] + index] = distances[station].get(index);
+            }
+        }
+        this.labelBytes = Integer.BYTES * ((long) labelOffsets.length + labelHubs.length + labelDistances.length);
+        this.preprocessingNanos = System.nanoTime() - startedAt;
+    }
+
+    // 연결된 구간이 많은 역일수록 많은 최단 경로가 지나므로 먼저 허브로 삼는다.
+    private int[] orderByDegree() {
+        return IntStream.range(0, graph.stationCount())
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer station) -> graph.end(station) - graph.begin(station))
+                        .reversed()
+                        .thenComparingInt(station -> station))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // 이미 만든 레이블로 root까지의 거리를 알 수 있는 역에서는 더 탐색하지 않는다.
+    private void prunedSearch(
+            final int root,
+            final int rank,
+            final IntArrayList[] hubs,
+            final IntArrayList[] distances,
+            final int[] rootDistances,
+            final SearchSpace space
+    ) {
+        for (int index = 0; index < hubs[root].size(); index++) {
+            rootDistances[hubs[root].get(index)] = distances[root].get(index);
+        }
+        space.reset();
+        space.start(root);
+        while (space.hasNext()) {
+            final int station = space.settleNext();
+            final int distance = space.distance(station);
+            if (coveredDistance(hubs[station], distances[station], rootDistances) <= distance) {
+                continue;
+            }
+            hubs[station].add(rank);
+            distances[station].add(distance);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                space.relax(graph.targets[arc], station, arc, distance + graph.weights[arc]);
+            }
+        }
+        for (int index = 0; index < hubs[root].size(); index++) {
+            rootDistances[hubs[root].get(index)] = SearchSpace.UNREACHABLE;
+        }
+    }
+
+    private long coveredDistance(final IntArrayList hubs, final IntArrayList distances, final int[] rootDistances) {
+        long best = SearchSpace.UNREACHABLE;
+        for (int index = 0; index < hubs.size(); index++) {
+            final int rootDistance = rootDistances[hubs.get(index)];
+            if (rootDistance != SearchSpace.UNREACHABLE) {
+                best = Math.min(best, (long) rootDistance + distances.get(index));
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes() + labelBytes;
+    }
+
+    @Override
+    public String describe() {
+        return report().toString();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        int remaining = distance(sourceId, targetId);
+        validateReachable(remaining);
+        final IntArrayList stations = new IntArrayList();
+        final IntArrayList arcs = new IntArrayList();
+        stations.add(sourceId);
+        for (int station = sourceId; station != targetId; ) {
+            final int arc = nextHop(station, targetId, remaining);
+            arcs.add(arc);
+            station = graph.targets[arc];
+            remaining -= graph.weights[arc];
+            stations.add(station);
+        }
+        return graph.toRoute(stations.toArray(), arcs.toArray(), arcs.size());
+    }
+
+    // 구간 거리와 다음 역에서 남은 거리의 합이 지금 남은 거리와 같은 구간은 최단 경로 위에 있다.
+    private int nextHop(final int station, final int target, final int remaining) {
+        for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+            final int rest = distance(graph.targets[arc], target);
+            if (rest != SearchSpace.UNREACHABLE && graph.weights[arc] + rest == remaining) {
+                return arc;
+            }
+        }
+        throw new IllegalStateException("허브 레이블로 다음 구간을 찾지 못했습니다.");
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final int distance = distance(graph.sourceIdOf(source), graph.targetIdOf(target));
+        validateReachable(distance);
+        return distance;
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int[] distances = new int[targets.size()];
+        for (int i = 0; i < distances.length; i++) {
+            final int distance = distance(sourceId, graph.targetIdOf(targets.get(i)));
+            distances[i] = distance == SearchSpace.UNREACHABLE ? UNREACHABLE : distance;
+        }
+        return distances;
+    }
+
+    private void validateReachable(final int distance) {
+        if (distance == SearchSpace.UNREACHABLE) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+    }
+
+    int distance(final int source, final int target) {
+        int sourceIndex = labelOffsets[source];
+        int targetIndex = labelOffsets[target];
+        final int sourceEnd = labelOffsets[source + 1];
+        final int targetEnd = labelOffsets[target + 1];
+        long best = SearchSpace.UNREACHABLE;
+        while (sourceIndex < sourceEnd && targetIndex < targetEnd) {
+            final int sourceHub = labelHubs[sourceIndex];
+            final int targetHub = labelHubs[targetIndex];
+            if (sourceHub == targetHub) {
+                best = Math.min(best, (long) labelDistances[sourceIndex++] + labelDistances[targetIndex++]);
+            } else if (sourceHub < targetHub) {
+                sourceIndex++;
+            } else {
+                targetIndex++;
+            }
+        }
+        return (int) best;
+    }
+
+    public HubLabelReport report() {
+        int maxLabelSize = 0;
+        for (int station = 0; station < graph.stationCount(); station++) {
+            maxLabelSize = Math.max(maxLabelSize, labelOffsets[station + 1] - labelOffsets[station]);
+        }
+        return new HubLabelReport(preprocessingNanos, graph.stationCount(), labelHubs.length, maxLabelSize, labelBytes);
+    }
+}
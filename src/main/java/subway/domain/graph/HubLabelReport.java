@@ -0,0 +1,55 @@
+package subway.domain.graph;
+
+import java.util.concurrent.TimeUnit;
+
+public class HubLabelReport {
+
+    private final long preprocessingNanos;
+    private final int stationCount;
+    private final int labelCount;
+    private final int maxLabelSize;
+    private final long bytes;
+
+    public HubLabelReport(
+            final long preprocessingNanos,
+            final int stationCount,
+            final int labelCount,
+            final int maxLabelSize,
+            final long bytes
+    ) {
+        this.preprocessingNanos = preprocessingNanos;
+        this.stationCount = stationCount;
+        this.labelCount = labelCount;
+        this.maxLabelSize = maxLabelSize;
+        this.bytes = bytes;
+    }
+
+    public long getPreprocessingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(preprocessingNanos);
+    }
+
+    public int getLabelCount() {
+        return labelCount;
+    }
+
+    public double getAverageLabelSize() {
+        if (stationCount == 0) {
+            return 0;
+        }
+        return (double) labelCount / stationCount;
+    }
+
+    public int getMaxLabelSize() {
+        return maxLabelSize;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("preprocessing=%dms, labels=%d, averageLabelSize=%.1f, maxLabelSize=%d, bytes=%d",
+                getPreprocessingMillis(), labelCount, getAverageLabelSize(), maxLabelSize, bytes);
+    }
+}
@@ -0,0 +1,61 @@
+package subway.domain.graph;
+
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.SectionChange;
+import subway.domain.Station;
+
+// 그래프 배열만 읽는 탐색을 감싸 조회는 읽기 잠금으로, 구간 변경은 쓰기 잠금으로 반영한다.
+public class IncrementalNavigation implements Navigation {
+
+    private final StationGraph graph;
+    private final Navigation navigation;
+
+    public IncrementalNavigation(final StationGraph graph, final Navigation navigation) {
+        this.graph = graph;
+        this.navigation = navigation;
+    }
+
+    public boolean apply(final String lineName, final List<SectionChange> changes, final long version) {
+        return graph.apply(lineName, changes, version);
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return navigation.estimatedBytes();
+    }
+
+    @Override
+    public String describe() {
+        return navigation.describe();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        return graph.read(() -> navigation.getRoute(source, target));
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        return graph.read(() -> navigation.getDistance(source, target));
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        return graph.read(() -> navigation.getDistances(source, targets));
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        return graph.read(() -> navigation.getRoutes(source, targets));
+    }
+
+    public StationGraph getGraph() {
+        return graph;
+    }
+
+    public Navigation getNavigation() {
+        return navigation;
+    }
+}
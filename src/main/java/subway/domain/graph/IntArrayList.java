@@ -0,0 +1,49 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+
+class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntArrayList(final int capacity) {
+        this.values = new int[Math.max(capacity, 1)];
+    }
+
+    void add(final int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(final int index) {
+        return values[index];
+    }
+
+    void set(final int index, final int value) {
+        values[index] = value;
+    }
+
+    void removeLast() {
+        size--;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,99 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+
+public class IntMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    public IntMinHeap(final int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public void insertOrDecrease(final int node, final int key) {
+        if (positions[node] == ABSENT) {
+            heap[size] = node;
+            positions[node] = size;
+            keys[node] = key;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[node]) {
+            keys[node] = key;
+            siftUp(positions[node]);
+        }
+    }
+
+    public int peekKey() {
+        return keys[heap[0]];
+    }
+
+    public int poll() {
+        final int node = heap[0];
+        positions[node] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return node;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        final int node = heap[index];
+        final int key = keys[node];
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final int parent = heap[parentIndex];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = node;
+        positions[node] = index;
+    }
+
+    private void siftDown(int index) {
+        final int node = heap[index];
+        final int key = keys[node];
+        final int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && keys[heap[rightIndex]] < keys[heap[childIndex]]) {
+                childIndex = rightIndex;
+            }
+            final int child = heap[childIndex];
+            if (key <= keys[child]) {
+                break;
+            }
+            heap[index] = child;
+            positions[child] = index;
+            index = childIndex;
+        }
+        heap[index] = node;
+        positions[node] = index;
+    }
+}
@@ -0,0 +1,195 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class KShortestPaths {
+
+    private final StationGraph graph;
+    private final ThreadLocal<SearchSpace> searchSpaces;
+
+    public KShortestPaths(final StationGraph graph) {
+        this.graph = graph;
+        this.searchSpaces = ThreadLocal.withInitial(() -> new SearchSpace(graph.stationCount()));
+    }
+
+    // Yen 알고리즘으로 순환 없는 경로를 거리순으로 최대 count개 구한다. 최단 거리의 maxRatio배를 넘는 경로는 버린다.
+    // 간선은 노선마다 따로 있으므로, 같은 역을 다른 노선으로 지나는 경로는 서로 다른 경로로 함께 조회된다.
+    public List<Route> find(final Station source, final Station target, final int count, final double maxRatio) {
+        validate(count, maxRatio);
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final Path shortest = search(sourceId, targetId, Path.EMPTY, new int[0], searchSpaces.get());
+        if (shortest == null) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        final long maxDistance = (long) Math.floor(shortest.distance * maxRatio);
+        final List<Path> accepted = new ArrayList<>(List.of(shortest));
+        final PriorityQueue<Path> candidates = new PriorityQueue<>();
+        final Set<Path> found = new HashSet<>(accepted);
+        while (accepted.size() < count) {
+            final Path previous = accepted.get(accepted.size() - 1);
+            final List<Path> spurs = IntStream.range(0, previous.arcCount()).parallel()
+                    .mapToObj(spurIndex -> spur(previous, spurIndex, targetId, accepted))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            for (Path spur : spurs) {
+                if (spur.distance <= maxDistance && found.add(spur)) {
+                    candidates.add(spur);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.poll());
+        }
+        return accepted.stream()
+                .map(path -> graph.toRoute(path.stations, path.arcs, path.arcCount()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private void validate(final int count, final double maxRatio) {
+        if (count < 1) {
+            throw new IllegalArgumentException("경로 개수는 1 이상이어야 합니다.");
+        }
+        if (maxRatio < 1.0) {
+            throw new IllegalArgumentException("허용 거리 비율은 1 이상이어야 합니다.");
+        }
+    }
+
+    // 이미 찾은 경로 중 같은 뿌리 경로를 가진 경로가 갈라지는 구간을 막고, 뿌리 경로의 역을 지나지 않게 탐색한다.
+    private Path spur(final Path previous, final int spurIndex, final int target, final List<Path> accepted) {
+        final Path root = previous.prefix(spurIndex, graph.weights);
+        final int[] blockedArcs = accepted.stream()
+                .filter(path -> path.arcCount() > spurIndex && path.startsWith(root))
+                .mapToInt(path -> path.arcs[spurIndex])
+                .toArray();
+        return search(previous.stations[spurIndex], target, root, blockedArcs, searchSpaces.get());
+    }
+
+    private Path search(
+            final int spurStation,
+            final int target,
+            final Path root,
+            final int[] blockedArcs,
+            final SearchSpace space
+    ) {
+        space.reset();
+        for (int index = 0; index < root.arcCount(); index++) {
+            space.block(root.stations[index]);
+        }
+        space.start(spurStation);
+        while (space.hasNext()) {
+            final int station = space.settleNext();
+            if (station == target) {
+                return root.append(spurPath(spurStation, target, space));
+            }
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int next = graph.targets[arc];
+                if (space.isSettled(next) || (station == spurStation && contains(blockedArcs, arc))) {
+                    continue;
+                }
+                space.relax(next, station, arc, distance + graph.weights[arc]);
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(final int[] values, final int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Path spurPath(final int spurStation, final int target, final SearchSpace space) {
+        int arcCount = 0;
+        for (int station = target; station != spurStation; station = space.parent(station)) {
+            arcCount++;
+        }
+        final int[] stations = new int[arcCount + 1];
+        final int[] arcs = new int[arcCount];
+        stations[0] = spurStation;
+        for (int station = target, index = arcCount; station != spurStation; station = space.parent(station), index--) {
+            stations[index] = station;
+            arcs[index - 1] = space.parentArc(station);
+        }
+        return new Path(stations, arcs, space.distance(target));
+    }
+
+    private static final class Path implements Comparable<Path> {
+        private static final Path EMPTY = new Path(new int[0], new int[0], 0);
+
+        private final int[] stations;
+        private final int[] arcs;
+        private final int distance;
+
+        private Path(final int[] stations, final int[] arcs, final int distance) {
+            this.stations = stations;
+            this.arcs = arcs;
+            this.distance = distance;
+        }
+
+        private int arcCount() {
+            return arcs.length;
+        }
+
+        private Path prefix(final int arcCount, final int[] weights) {
+            final int[] prefixArcs = Arrays.copyOf(arcs, arcCount);
+            int prefixDistance = 0;
+            for (int arc : prefixArcs) {
+                prefixDistance += weights[arc];
+            }
+            return new Path(Arrays.copyOf(stations, arcCount + 1), prefixArcs, prefixDistance);
+        }
+
+        private boolean startsWith(final Path root) {
+            return Arrays.equals(arcs, 0, root.arcCount(), root.arcs, 0, root.arcCount());
+        }
+
+        private Path append(final Path spur) {
+            if (arcCount() == 0) {
+                return spur;
+            }
+            final int[] joinedStations = Arrays.copyOf(stations, stations.length + spur.arcCount());
+            System.arraycopy(spur.stations, 1, joinedStations, stations.length, spur.arcCount());
+            final int[] joinedArcs = Arrays.copyOf(arcs, arcs.length + spur.arcCount());
+            System.arraycopy(spur.arcs, 0, joinedArcs, arcs.length, spur.arcCount());
+            return new Path(joinedStations, joinedArcs, distance + spur.distance);
+        }
+
+        @Override
+        public int compareTo(final Path other) {
+            return Integer.compare(distance, other.distance);
+        }
+
+        // 간선 번호에 노선이 담겨 있으므로 역 순서가 같아도 노선이 다르면 다른 경로다.
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Path)) {
+                return false;
+            }
+            return Arrays.equals(arcs, ((Path) o).arcs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arcs);
+        }
+    }
+}
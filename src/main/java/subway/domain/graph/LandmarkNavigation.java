@@ -0,0 +1,181 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class LandmarkNavigation implements Navigation {
+    private static final int NOT_FOUND = -1;
+
+    private final StationGraph graph;
+    private final int[] landmarks;
+    private final int[] landmarkDistances;
+    private final ThreadLocal<SearchSpace> searchSpaces;
+
+    public LandmarkNavigation(final StationGraph graph, final int landmarkCount) {
+        validate(landmarkCount);
+        this.graph = graph;
+        this.searchSpaces = ThreadLocal.withInitial(() -> new SearchSpace(graph.stationCount()));
+        this.landmarks = selectLandmarks(Math.min(landmarkCount, graph.stationCount()));
+        this.landmarkDistances = new int[graph.stationCount() * landmarks.length];
+        for (int index = 0; index < landmarks.length; index++) {
+            final SearchSpace space = exploreFrom(landmarks[index]);
+            for (int station = 0; station < graph.stationCount(); station++) {
+                landmarkDistances[station * landmarks.length + index] = space.distance(station);
+            }
+        }
+    }
+
+    private void validate(final int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("랜드마크 개수는 1 이상이어야 합니다.");
+        }
+    }
+
+    // 이미 고른 랜드마크들로부터 가장 먼 역을 다음 랜드마크로 고른다. 닿지 않는 역은 가장 먼 것으로 본다.
+    private int[] selectLandmarks(final int count) {
+        final int[] selected = new int[count];
+        if (count == 0) {
+            return selected;
+        }
+        final int[] nearest = new int[graph.stationCount()];
+        Arrays.fill(nearest, SearchSpace.UNREACHABLE);
+        selected[0] = farthestReachable(exploreFrom(0));
+        for (int index = 1; index < count; index++) {
+            final SearchSpace space = exploreFrom(selected[index - 1]);
+            int farthest = 0;
+            for (int station = 0; station < nearest.length; station++) {
+                nearest[station] = Math.min(nearest[station], space.distance(station));
+                if (nearest[station] > nearest[farthest]) {
+                    farthest = station;
+                }
+            }
+            selected[index] = farthest;
+        }
+        return selected;
+    }
+
+    private int farthestReachable(final SearchSpace space) {
+        int farthest = 0;
+        for (int station = 0; station < space.capacity(); station++) {
+            if (space.isReached(station) && space.distance(station) > space.distance(farthest)) {
+                farthest = station;
+            }
+        }
+        return farthest;
+    }
+
+    private SearchSpace exploreFrom(final int source) {
+        final SearchSpace space = searchSpaces.get();
+        space.reset();
+        space.start(source);
+        while (space.hasNext()) {
+            final int station = space.settleNext();
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                space.relax(graph.targets[arc], station, arc, distance + graph.weights[arc]);
+            }
+        }
+        return space;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes() + Integer.BYTES * ((long) landmarks.length + landmarkDistances.length);
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        final SearchSpace space = searchSpaces.get();
+        validateReachable(search(sourceId, targetId, space) != NOT_FOUND);
+        return graph.toRoute(sourceId, targetId, space);
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final int distance = distance(graph.sourceIdOf(source), graph.targetIdOf(target));
+        validateReachable(distance != SearchSpace.UNREACHABLE);
+        return distance;
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        return OneToManySearch.distances(graph, searchSpaces.get(), source, targets);
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        return OneToManySearch.routes(graph, searchSpaces.get(), source, targets);
+    }
+
+    private void validateReachable(final boolean reachable) {
+        if (!reachable) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+    }
+
+    int distance(final int source, final int target) {
+        final SearchSpace space = searchSpaces.get();
+        if (search(source, target, space) == NOT_FOUND) {
+            return SearchSpace.UNREACHABLE;
+        }
+        return space.distance(target);
+    }
+
+    int landmarkCount() {
+        return landmarks.length;
+    }
+
+    private int search(final int source, final int target, final SearchSpace space) {
+        space.reset();
+        if (lowerBound(source, target) == SearchSpace.UNREACHABLE) {
+            return NOT_FOUND;
+        }
+        space.start(source);
+        while (space.hasNext()) {
+            final int station = space.settleNext();
+            if (station == target) {
+                return target;
+            }
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int next = graph.targets[arc];
+                if (space.isSettled(next)) {
+                    continue;
+                }
+                final int bound = lowerBound(next, target);
+                if (bound == SearchSpace.UNREACHABLE) {
+                    continue;
+                }
+                final int candidate = distance + graph.weights[arc];
+                space.relax(next, station, arc, candidate, candidate + bound);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    // 삼각 부등식 |d(l, t) - d(l, v)| <= d(v, t)로 남은 거리의 하한을 구한다.
+    // 한 랜드마크에서 두 역 중 하나에만 닿는다면 두 역은 서로 다른 연결 요소에 있다.
+    private int lowerBound(final int station, final int target) {
+        final int count = landmarks.length;
+        final int stationOffset = station * count;
+        final int targetOffset = target * count;
+        int bound = 0;
+        for (int index = 0; index < count; index++) {
+            final int fromStation = landmarkDistances[stationOffset + index];
+            final int fromTarget = landmarkDistances[targetOffset + index];
+            if (fromStation == SearchSpace.UNREACHABLE || fromTarget == SearchSpace.UNREACHABLE) {
+                if (fromStation != fromTarget) {
+                    return SearchSpace.UNREACHABLE;
+                }
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(fromTarget - fromStation));
+        }
+        return bound;
+    }
+}
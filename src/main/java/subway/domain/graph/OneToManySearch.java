@@ -0,0 +1,79 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+final class OneToManySearch {
+
+    private OneToManySearch() {
+    }
+
+    static int[] distances(
+            final StationGraph graph,
+            final SearchSpace space,
+            final Station source,
+            final List<Station> targets
+    ) {
+        final int[] targetIds = targetIdsOf(graph, targets);
+        search(graph, space, graph.sourceIdOf(source), targetIds);
+        final int[] distances = new int[targetIds.length];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = space.isSettled(targetIds[i]) ? space.distance(targetIds[i]) : Navigation.UNREACHABLE;
+        }
+        return distances;
+    }
+
+    static List<Route> routes(
+            final StationGraph graph,
+            final SearchSpace space,
+            final Station source,
+            final List<Station> targets
+    ) {
+        final int sourceId = graph.sourceIdOf(source);
+        final int[] targetIds = targetIdsOf(graph, targets);
+        search(graph, space, sourceId, targetIds);
+        final List<Route> routes = new ArrayList<>(targetIds.length);
+        for (int targetId : targetIds) {
+            if (!space.isSettled(targetId)) {
+                throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+            }
+            routes.add(graph.toRoute(sourceId, targetId, space));
+        }
+        return routes;
+    }
+
+    private static int[] targetIdsOf(final StationGraph graph, final List<Station> targets) {
+        final int[] targetIds = new int[targets.size()];
+        for (int i = 0; i < targetIds.length; i++) {
+            targetIds[i] = graph.targetIdOf(targets.get(i));
+        }
+        return targetIds;
+    }
+
+    // 하나의 출발역에서 모든 도착역이 확정될 때까지만 탐색한다.
+    private static void search(
+            final StationGraph graph,
+            final SearchSpace space,
+            final int source,
+            final int[] targets
+    ) {
+        final int[] pending = Arrays.stream(targets).distinct().sorted().toArray();
+        int remaining = pending.length;
+        space.reset();
+        space.start(source);
+        while (remaining > 0 && space.hasNext()) {
+            final int station = space.settleNext();
+            if (Arrays.binarySearch(pending, station) >= 0) {
+                remaining--;
+            }
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                space.relax(graph.targets[arc], station, arc, distance + graph.weights[arc]);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package subway.domain.graph;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import subway.domain.ReachableStation;
+import subway.domain.Station;
+
+public class ReachableStations {
+
+    private final StationGraph graph;
+
+    public ReachableStations(final StationGraph graph) {
+        this.graph = graph;
+    }
+
+    // 출발역과 최대 거리는 바로 검증하고, 역은 꺼낼 때마다 하나씩 거리순으로 확정한다.
+    // 응답을 쓰는 스레드에서 꺼낼 수 있도록 탐색 공간을 스레드에 묶어 두지 않는다.
+    public Iterator<ReachableStation> search(final Station source, final int maxDistance) {
+        validate(maxDistance);
+        final int sourceId = graph.sourceIdOf(source);
+        final SearchSpace space = new SearchSpace(graph.stationCount());
+        space.reset();
+        space.start(sourceId);
+        return new BoundedSearch(space, maxDistance);
+    }
+
+    private void validate(final int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("최대 거리는 0 이상이어야 합니다.");
+        }
+    }
+
+    private class BoundedSearch implements Iterator<ReachableStation> {
+
+        private final SearchSpace space;
+        private final int maxDistance;
+
+        private BoundedSearch(final SearchSpace space, final int maxDistance) {
+            this.space = space;
+            this.maxDistance = maxDistance;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return space.hasNext() && space.peekDistance() <= maxDistance;
+        }
+
+        @Override
+        public ReachableStation next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("최대 거리 안에 남은 역이 없습니다.");
+            }
+            final int station = space.settleNext();
+            final int distance = space.distance(station);
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int candidate = distance + graph.weights[arc];
+                if (candidate <= maxDistance) {
+                    space.relax(graph.targets[arc], station, arc, candidate);
+                }
+            }
+            return new ReachableStation(graph.stationOf(station), distance);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+
+class SearchSpace {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int[] distances;
+    private final int[] parents;
+    private final int[] parentArcs;
+    private final int[] reached;
+    private final int[] settled;
+    private final IntMinHeap heap;
+    private int generation;
+
+    SearchSpace(final int capacity) {
+        this.distances = new int[capacity];
+        this.parents = new int[capacity];
+        this.parentArcs = new int[capacity];
+        this.reached = new int[capacity];
+        this.settled = new int[capacity];
+        this.heap = new IntMinHeap(capacity);
+    }
+
+    void reset() {
+        heap.clear();
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(reached, 0);
+            Arrays.fill(settled, 0);
+            generation = 0;
+        }
+        generation++;
+    }
+
+    void start(final int station) {
+        reached[station] = generation;
+        distances[station] = 0;
+        parents[station] = station;
+        parentArcs[station] = -1;
+        heap.insertOrDecrease(station, 0);
+    }
+
+    void block(final int station) {
+        settled[station] = generation;
+    }
+
+    boolean relax(final int station, final int parent, final int arc, final int distance) {
+        return relax(station, parent, arc, distance, distance);
+    }
+
+    boolean relax(final int station, final int parent, final int arc, final int distance, final int priority) {
+        if (distance >= distance(station)) {
+            return false;
+        }
+        reached[station] = generation;
+        distances[station] = distance;
+        parents[station] = parent;
+        parentArcs[station] = arc;
+        heap.insertOrDecrease(station, priority);
+        return true;
+    }
+
+    int settleNext() {
+        final int station = heap.poll();
+        settled[station] = generation;
+        return station;
+    }
+
+    boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    int peekDistance() {
+        if (heap.isEmpty()) {
+            return UNREACHABLE;
+        }
+        return heap.peekKey();
+    }
+
+    boolean isReached(final int station) {
+        return reached[station] == generation;
+    }
+
+    boolean isSettled(final int station) {
+        return settled[station] == generation;
+    }
+
+    int distance(final int station) {
+        if (reached[station] != generation) {
+            return UNREACHABLE;
+        }
+        return distances[station];
+    }
+
+    int parent(final int station) {
+        return parents[station];
+    }
+
+    int parentArc(final int station) {
+        return parentArcs[station];
+    }
+
+    int capacity() {
+        return distances.length;
+    }
+}
@@ -0,0 +1,71 @@
+package subway.domain.graph;
+
+import java.util.Arrays;
+
+class ShortestPathTree {
+    private static final long HEADER_BYTES = 64;
+
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+    private final int[] parentArcs;
+
+    private ShortestPathTree(final int source, final int[] distances, final int[] parents, final int[] parentArcs) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.parentArcs = parentArcs;
+    }
+
+    static ShortestPathTree grow(final StationGraph graph, final int source) {
+        final int stationCount = graph.stationCount();
+        final int[] distances = new int[stationCount];
+        final int[] parents = new int[stationCount];
+        final int[] parentArcs = new int[stationCount];
+        Arrays.fill(distances, SearchSpace.UNREACHABLE);
+        final IntMinHeap heap = new IntMinHeap(stationCount);
+        distances[source] = 0;
+        parents[source] = source;
+        parentArcs[source] = -1;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            final int station = heap.poll();
+            final int distance = distances[station];
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int next = graph.targets[arc];
+                final int candidate = distance + graph.weights[arc];
+                if (candidate < distances[next]) {
+                    distances[next] = candidate;
+                    parents[next] = station;
+                    parentArcs[next] = arc;
+                    heap.insertOrDecrease(next, candidate);
+                }
+            }
+        }
+        return new ShortestPathTree(source, distances, parents, parentArcs);
+    }
+
+    boolean reaches(final int station) {
+        return distances[station] != SearchSpace.UNREACHABLE;
+    }
+
+    int distance(final int station) {
+        return distances[station];
+    }
+
+    int[] parents() {
+        return parents;
+    }
+
+    int[] parentArcs() {
+        return parentArcs;
+    }
+
+    int source() {
+        return source;
+    }
+
+    long bytes() {
+        return HEADER_BYTES + Integer.BYTES * 3L * distances.length;
+    }
+}
@@ -0,0 +1,120 @@
+package subway.domain.graph;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ShortestPathTreeCache {
+
+    private final long maxBytes;
+    private final Map<Key, ShortestPathTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public ShortestPathTreeCache(final long maxBytes) {
+        validate(maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    private void validate(final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("캐시 용량은 0 이상이어야 합니다.");
+        }
+    }
+
+    // 같은 트리를 동시에 만들 수는 있지만, 탐색은 잠금 밖에서 하고 결과만 잠금 안에서 넣는다.
+    ShortestPathTree get(final long version, final int source, final Supplier<ShortestPathTree> loader) {
+        final Key key = new Key(version, source);
+        synchronized (this) {
+            final ShortestPathTree tree = trees.get(key);
+            if (tree != null) {
+                hitCount++;
+                return tree;
+            }
+            missCount++;
+        }
+        final ShortestPathTree tree = loader.get();
+        put(key, tree);
+        return tree;
+    }
+
+    private synchronized void put(final Key key, final ShortestPathTree tree) {
+        if (tree.bytes() > maxBytes) {
+            return;
+        }
+        final ShortestPathTree previous = trees.put(key, tree);
+        if (previous != null) {
+            bytes -= previous.bytes();
+        }
+        bytes += tree.bytes();
+        final Iterator<ShortestPathTree> eldest = trees.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().bytes();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void evictOlderThan(final long version) {
+        final Iterator<Map.Entry<Key, ShortestPathTree>> entries = trees.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Key, ShortestPathTree> entry = entries.next();
+            if (entry.getKey().version < version) {
+                bytes -= entry.getValue().bytes();
+                entries.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return trees.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static final class Key {
+        private final long version;
+        private final int source;
+
+        private Key(final long version, final int source) {
+            this.version = version;
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return version == key.version && source == key.source;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, source);
+        }
+    }
+}
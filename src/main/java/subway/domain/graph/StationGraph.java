@@ -0,0 +1,500 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import subway.domain.Line;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.SectionChange;
+import subway.domain.Sections;
+import subway.domain.Station;
+import subway.domain.Subway;
+
+// 각 역의 구간은 offsets[역]부터 degrees[역]개가 이어진다. 수정 가능한 그래프는 역마다 여분의 칸과
+// 새 역을 위한 여분의 자리를 두어, 구간 변경을 배열을 다시 만들지 않고 제자리에서 반영한다.
+public class StationGraph {
+    public static final int NO_STATION = -1;
+    private static final int EDIT_ARC_SLACK = 2;
+    private static final int MIN_EDIT_STATION_SLACK = 16;
+    private static final int STATION_NAME_BYTES = 96;
+
+    private final List<String> stationNames;
+    private final Map<String, Integer> stationIds;
+    private final List<String> lineNames;
+    final int[] offsets;
+    final int[] degrees;
+    final int[] targets;
+    final int[] weights;
+    final int[] lines;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int arcCount;
+    private volatile long version;
+
+    private StationGraph(
+            final List<String> stationNames,
+            final Map<String, Integer> stationIds,
+            final List<String> lineNames,
+            final int[] offsets,
+            final int[] degrees,
+            final int[] targets,
+            final int[] weights,
+            final int[] lines,
+            final int arcCount,
+            final long version
+    ) {
+        this.stationNames = stationNames;
+        this.stationIds = stationIds;
+        this.lineNames = lineNames;
+        this.offsets = offsets;
+        this.degrees = degrees;
+        this.targets = targets;
+        this.weights = weights;
+        this.lines = lines;
+        this.arcCount = arcCount;
+        this.version = version;
+    }
+
+    public static Builder builderOf(final Subway subway) {
+        final Builder builder = new Builder();
+        for (Line line : subway.getLines()) {
+            builder.addSections(builder.addLine(line.getName()), line.getSections());
+        }
+        return builder;
+    }
+
+    public static Builder builderOf(final StationGraph graph) {
+        final Builder builder = new Builder();
+        graph.forEachSection((lineName, source, target, distance) ->
+                builder.addSection(lineName, source.getName(), target.getName(), distance));
+        return builder;
+    }
+
+    // 파일에서 읽은 CSR 배열로 그래프를 만든다. 여분의 자리 없이 offsets가 바로 다음 역의 시작이다.
+    static StationGraph of(
+            final List<String> stationNames,
+            final List<String> lineNames,
+            final int[] offsets,
+            final int[] targets,
+            final int[] weights,
+            final int[] lines
+    ) {
+        final Map<String, Integer> stationIds = new HashMap<>();
+        final int[] degrees = new int[stationNames.size()];
+        for (int station = 0; station < degrees.length; station++) {
+            stationIds.put(stationNames.get(station), station);
+            degrees[station] = offsets[station + 1] - offsets[station];
+        }
+        return new StationGraph(new ArrayList<>(stationNames), stationIds, new ArrayList<>(lineNames),
+                offsets, degrees, targets, weights, lines, targets.length, 0L);
+    }
+
+    // 구간이 모두 지워진 역은 다시 만든 그래프에 없을 역이므로 없는 역으로 본다.
+    public int idOf(final Station station) {
+        final Integer id = stationIds.get(station.getName());
+        if (id == null || degrees[id] == 0) {
+            return NO_STATION;
+        }
+        return id;
+    }
+
+    public int sourceIdOf(final Station station) {
+        final int id = idOf(station);
+        if (id == NO_STATION) {
+            throw new IllegalArgumentException("출발역이 존재하지 않습니다.");
+        }
+        return id;
+    }
+
+    public int targetIdOf(final Station station) {
+        final int id = idOf(station);
+        if (id == NO_STATION) {
+            throw new IllegalArgumentException("도착역이 존재하지 않습니다.");
+        }
+        return id;
+    }
+
+    public Station stationOf(final int id) {
+        return new Station(stationNames.get(id));
+    }
+
+    public int stationCount() {
+        return stationNames.size();
+    }
+
+    public int arcCount() {
+        return arcCount;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    String lineNameOf(final int line) {
+        return lineNames.get(line);
+    }
+
+    int lineCount() {
+        return lineNames.size();
+    }
+
+    // 배열과, 역 이름 하나가 사전과 목록에서 차지하는 대략적인 크기를 더한다.
+    public long estimatedBytes() {
+        final long arrayBytes = Integer.BYTES
+                * ((long) offsets.length + degrees.length + targets.length + weights.length + lines.length);
+        return arrayBytes + (long) STATION_NAME_BYTES * stationNames.size();
+    }
+
+    int stationCapacity() {
+        return degrees.length;
+    }
+
+    int begin(final int station) {
+        return offsets[station];
+    }
+
+    int end(final int station) {
+        return offsets[station] + degrees[station];
+    }
+
+    int sourceOf(final int arc) {
+        int low = 0;
+        int high = stationCapacity() - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= arc) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    public Route toRoute(final int source, final int target, final int[] parents, final int[] parentArcs) {
+        int arcCount = 0;
+        for (int station = target; station != source; station = parents[station]) {
+            arcCount++;
+        }
+        final int[] stations = new int[arcCount + 1];
+        final int[] arcs = new int[arcCount];
+        stations[0] = source;
+        for (int station = target, index = arcCount; station != source; station = parents[station], index--) {
+            stations[index] = station;
+            arcs[index - 1] = parentArcs[station];
+        }
+        return toRoute(stations, arcs, arcCount);
+    }
+
+    Route toRoute(final int source, final int target, final SearchSpace space) {
+        int arcCount = 0;
+        for (int station = target; station != source; station = space.parent(station)) {
+            arcCount++;
+        }
+        final int[] stations = new int[arcCount + 1];
+        final int[] arcs = new int[arcCount];
+        stations[0] = source;
+        for (int station = target, index = arcCount; station != source; station = space.parent(station), index--) {
+            stations[index] = station;
+            arcs[index - 1] = space.parentArc(station);
+        }
+        return toRoute(stations, arcs, arcCount);
+    }
+
+    public Route toRoute(final int[] stations, final int[] arcs, final int arcCount) {
+        final List<Station> routeStations = new ArrayList<>(arcCount + 1);
+        final List<String> routeLineNames = new ArrayList<>(arcCount);
+        final List<Integer> distances = new ArrayList<>(arcCount);
+        routeStations.add(stationOf(stations[0]));
+        for (int i = 0; i < arcCount; i++) {
+            routeStations.add(stationOf(stations[i + 1]));
+            routeLineNames.add(lineNames.get(lines[arcs[i]]));
+            distances.add(weights[arcs[i]]);
+        }
+        return Route.of(routeStations, routeLineNames, distances);
+    }
+
+    // 구간마다 양방향 간선이 있으므로 도착역 번호가 더 큰 간선만 넘겨 구간을 한 번씩 방문한다.
+    public void forEachSection(final SectionVisitor visitor) {
+        for (int station = 0; station < stationCount(); station++) {
+            for (int arc = begin(station), end = end(station); arc < end; arc++) {
+                if (targets[arc] > station) {
+                    visitor.visit(lineNames.get(lines[arc]), stationOf(station), stationOf(targets[arc]), weights[arc]);
+                }
+            }
+        }
+    }
+
+    // 제자리에서 고친 그래프를 여분의 자리 없이 복사한다. 복사본은 이후 변경과 상관없이 지금 상태로 남는다.
+    public StationGraph compact() {
+        return read(() -> {
+            final int stationCount = stationCount();
+            final int[] compactOffsets = new int[stationCount + 1];
+            final int[] compactTargets = new int[arcCount];
+            final int[] compactWeights = new int[arcCount];
+            final int[] compactLines = new int[arcCount];
+            int offset = 0;
+            for (int station = 0; station < stationCount; station++) {
+                compactOffsets[station] = offset;
+                final int degree = degrees[station];
+                System.arraycopy(targets, begin(station), compactTargets, offset, degree);
+                System.arraycopy(weights, begin(station), compactWeights, offset, degree);
+                System.arraycopy(lines, begin(station), compactLines, offset, degree);
+                offset += degree;
+            }
+            compactOffsets[stationCount] = offset;
+            return of(stationNames, lineNames, compactOffsets, compactTargets, compactWeights, compactLines);
+        });
+    }
+
+    public <T> T read(final Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 구간 변경을 순서대로 반영한다. 여분의 자리가 모자라거나 없는 구간을 지우려 하면
+    // 반영한 변경을 되돌린 뒤 false를 반환하므로, 호출한 쪽은 그래프를 새로 만들면 된다.
+    public boolean apply(final String lineName, final List<SectionChange> changes, final long version) {
+        lock.writeLock().lock();
+        try {
+            final int stationCount = stationCount();
+            final int lineCount = lineNames.size();
+            final int line = lineIdOf(lineName);
+            for (int applied = 0; applied < changes.size(); applied++) {
+                if (!apply(line, changes.get(applied))) {
+                    for (int index = applied - 1; index >= 0; index--) {
+                        revert(line, changes.get(index));
+                    }
+                    truncate(stationCount, lineCount);
+                    return false;
+                }
+            }
+            this.version = version;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int lineIdOf(final String lineName) {
+        final int line = lineNames.indexOf(lineName);
+        if (line >= 0) {
+            return line;
+        }
+        lineNames.add(lineName);
+        return lineNames.size() - 1;
+    }
+
+    private boolean apply(final int line, final SectionChange change) {
+        if (change.isAdded()) {
+            return connect(line, change.getSection());
+        }
+        return disconnect(line, change.getSection());
+    }
+
+    private void revert(final int line, final SectionChange change) {
+        if (change.isAdded()) {
+            disconnect(line, change.getSection());
+            return;
+        }
+        connect(line, change.getSection());
+    }
+
+    // 같은 구간이 이미 있으면 이 변경을 담은 데이터로 다시 만든 그래프이므로, 간선을 겹쳐 넣지 않고 false를 반환한다.
+    private boolean connect(final int line, final Section section) {
+        final int source = stationIdForEdit(section.getSource().getName());
+        final int target = stationIdForEdit(section.getTarget().getName());
+        if (source == NO_STATION || target == NO_STATION || isFull(source) || isFull(target)
+                || findArc(source, target, section.getDistance(), line) != NO_STATION) {
+            return false;
+        }
+        link(source, target, section.getDistance(), line);
+        link(target, source, section.getDistance(), line);
+        return true;
+    }
+
+    private int stationIdForEdit(final String name) {
+        final Integer id = stationIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (stationCount() == stationCapacity()) {
+            return NO_STATION;
+        }
+        stationNames.add(name);
+        stationIds.put(name, stationNames.size() - 1);
+        return stationNames.size() - 1;
+    }
+
+    private boolean isFull(final int station) {
+        return end(station) == offsets[station + 1];
+    }
+
+    private void link(final int source, final int target, final int weight, final int line) {
+        final int arc = end(source);
+        targets[arc] = target;
+        weights[arc] = weight;
+        lines[arc] = line;
+        degrees[source]++;
+        arcCount++;
+    }
+
+    private boolean disconnect(final int line, final Section section) {
+        final Integer source = stationIds.get(section.getSource().getName());
+        final Integer target = stationIds.get(section.getTarget().getName());
+        if (source == null || target == null) {
+            return false;
+        }
+        final int forward = findArc(source, target, section.getDistance(), line);
+        final int backward = findArc(target, source, section.getDistance(), line);
+        if (forward == NO_STATION || backward == NO_STATION) {
+            return false;
+        }
+        unlink(source, forward);
+        unlink(target, backward);
+        return true;
+    }
+
+    private int findArc(final int source, final int target, final int weight, final int line) {
+        for (int arc = begin(source), end = end(source); arc < end; arc++) {
+            if (targets[arc] == target && weights[arc] == weight && lines[arc] == line) {
+                return arc;
+            }
+        }
+        return NO_STATION;
+    }
+
+    // 마지막 구간을 지운 자리로 옮겨 역의 구간이 계속 붙어 있게 한다.
+    private void unlink(final int source, final int arc) {
+        final int last = end(source) - 1;
+        targets[arc] = targets[last];
+        weights[arc] = weights[last];
+        lines[arc] = lines[last];
+        degrees[source]--;
+        arcCount--;
+    }
+
+    private void truncate(final int stationCount, final int lineCount) {
+        while (stationNames.size() > stationCount) {
+            stationIds.remove(stationNames.remove(stationNames.size() - 1));
+        }
+        while (lineNames.size() > lineCount) {
+            lineNames.remove(lineNames.size() - 1);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SectionVisitor {
+
+        void visit(String lineName, Station source, Station target, int distance);
+    }
+
+    public static class Builder {
+
+        private final Map<String, Integer> stationIds = new HashMap<>();
+        private final List<String> stationNames = new ArrayList<>();
+        private final List<String> lineNames = new ArrayList<>();
+        private final Map<String, Integer> lineIds = new HashMap<>();
+        private final IntArrayList sources = new IntArrayList();
+        private final IntArrayList sectionTargets = new IntArrayList();
+        private final IntArrayList distances = new IntArrayList();
+        private final IntArrayList sectionLines = new IntArrayList();
+
+        public int addLine(final String name) {
+            lineNames.add(name);
+            return lineNames.size() - 1;
+        }
+
+        public int addStation(final String name) {
+            return stationIds.computeIfAbsent(name, ignored -> {
+                stationNames.add(name);
+                return stationNames.size() - 1;
+            });
+        }
+
+        public void addSection(final int line, final int source, final int target, final int distance) {
+            sources.add(source);
+            sectionTargets.add(target);
+            distances.add(distance);
+            sectionLines.add(line);
+        }
+
+        public void addSection(
+                final String lineName,
+                final String sourceStationName,
+                final String targetStationName,
+                final int distance
+        ) {
+            final int line = lineIds.computeIfAbsent(lineName, this::addLine);
+            addSection(line, addStation(sourceStationName), addStation(targetStationName), distance);
+        }
+
+        private void addSections(final int line, final Sections sections) {
+            for (Section section : sections.get()) {
+                final int source = addStation(section.getSource().getName());
+                final int target = addStation(section.getTarget().getName());
+                addSection(line, source, target, section.getDistance());
+            }
+        }
+
+        public StationGraph build() {
+            return build(0, 0, 0L);
+        }
+
+        public StationGraph buildEditable(final long version) {
+            final int stationSlack = Math.max(MIN_EDIT_STATION_SLACK, stationNames.size() / 8);
+            return build(EDIT_ARC_SLACK, stationSlack, version);
+        }
+
+        private StationGraph build(final int arcSlack, final int stationSlack, final long version) {
+            final int capacity = stationNames.size() + stationSlack;
+            final int sectionCount = sources.size();
+            final int[] degrees = new int[capacity];
+            for (int i = 0; i < sectionCount; i++) {
+                degrees[sources.get(i)]++;
+                degrees[sectionTargets.get(i)]++;
+            }
+            final int[] offsets = new int[capacity + 1];
+            for (int i = 0; i < capacity; i++) {
+                offsets[i + 1] = offsets[i] + degrees[i] + arcSlack;
+            }
+            final int[] cursors = offsets.clone();
+            final int[] targets = new int[offsets[capacity]];
+            final int[] weights = new int[offsets[capacity]];
+            final int[] lines = new int[offsets[capacity]];
+            for (int i = 0; i < sectionCount; i++) {
+                final int source = sources.get(i);
+                final int target = sectionTargets.get(i);
+                link(cursors[source]++, target, distances.get(i), sectionLines.get(i), targets, weights, lines);
+                link(cursors[target]++, source, distances.get(i), sectionLines.get(i), targets, weights, lines);
+            }
+            return new StationGraph(
+                    new ArrayList<>(stationNames),
+                    new HashMap<>(stationIds),
+                    new ArrayList<>(lineNames),
+                    offsets, degrees, targets, weights, lines, sectionCount * 2, version);
+        }
+
+        private static void link(
+                final int arc,
+                final int target,
+                final int weight,
+                final int line,
+                final int[] targets,
+                final int[] weights,
+                final int[] lines
+        ) {
+            targets[arc] = target;
+            weights[arc] = weight;
+            lines[arc] = line;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package subway.domain.graph;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 경로 탐색 그래프를 한 파일에 담는다. 머리말(매직 넘버, 형식 버전, 데이터 지문, 개수) 뒤에
+// 역 이름 사전, 노선 이름, CSR 배열(offsets, targets, weights, lines)이 이어진다.
+// 읽을 때는 파일을 매핑해 배열을 한 번에 힙으로 복사하므로, 데이터베이스에서 구간을 읽어 만드는 것보다 빠르다.
+// 매핑은 복사한 뒤 놓으므로 탐색은 힙 배열로 한다.
+// 제자리에서 고친 그래프는 파일에 다시 쓰지 않는다. 아직 반영되지 않은 커밋이 있을 수 있어
+// 그래프와 지문이 같은 데이터를 가리킨다고 보장할 수 없기 때문이다. 그래서 구간이 바뀐 뒤의 다음 기동은
+// 지문이 달라 데이터베이스에서 읽고, 그 그래프로 파일을 새로 쓴다.
+public final class StationGraphFile {
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT_VERSION = 1;
+
+    private StationGraphFile() {
+    }
+
+    // 임시 파일에 다 쓴 뒤 옮기므로, 읽는 쪽은 반쯤 쓰인 파일을 보지 않는다.
+    public static void write(final StationGraph graph, final long fingerprint, final Path path) throws IOException {
+        final Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                writeGraph(output, graph, fingerprint);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void writeGraph(
+            final DataOutputStream output,
+            final StationGraph graph,
+            final long fingerprint
+    ) throws IOException {
+        final int stationCount = graph.stationCount();
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(fingerprint);
+        output.writeInt(stationCount);
+        output.writeInt(graph.lineCount());
+        output.writeInt(graph.arcCount());
+        for (int station = 0; station < stationCount; station++) {
+            writeName(output, graph.stationOf(station).getName());
+        }
+        for (int line = 0; line < graph.lineCount(); line++) {
+            writeName(output, graph.lineNameOf(line));
+        }
+        // 수정 가능한 그래프의 여분 칸은 빼고 구간이 빈틈없이 이어지게 쓴다.
+        int offset = 0;
+        for (int station = 0; station < stationCount; station++) {
+            output.writeInt(offset);
+            offset += graph.end(station) - graph.begin(station);
+        }
+        output.writeInt(offset);
+        for (int[] values : new int[][]{graph.targets, graph.weights, graph.lines}) {
+            for (int station = 0; station < stationCount; station++) {
+                for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                    output.writeInt(values[arc]);
+                }
+            }
+        }
+    }
+
+    private static void writeName(final DataOutputStream output, final String name) throws IOException {
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    // 파일이 없거나, 형식 버전이나 지문이 다르면 비어 있는 결과를 반환한다.
+    public static Optional<StationGraph> read(final Path path, final long fingerprint) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 2 + Long.BYTES
+                    || buffer.getInt() != MAGIC
+                    || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != fingerprint) {
+                return Optional.empty();
+            }
+            return Optional.of(readGraph(buffer));
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("경로 탐색 그래프 파일이 손상되었습니다. path=" + path, e);
+        }
+    }
+
+    private static StationGraph readGraph(final ByteBuffer buffer) {
+        final int stationCount = buffer.getInt();
+        final int lineCount = buffer.getInt();
+        final int arcCount = buffer.getInt();
+        final List<String> stationNames = readNames(buffer, stationCount);
+        final List<String> lineNames = readNames(buffer, lineCount);
+        final int[] offsets = readInts(buffer, stationCount + 1);
+        final int[] targets = readInts(buffer, arcCount);
+        final int[] weights = readInts(buffer, arcCount);
+        final int[] lines = readInts(buffer, arcCount);
+        return StationGraph.of(stationNames, lineNames, offsets, targets, weights, lines);
+    }
+
+    private static List<String> readNames(final ByteBuffer buffer, final int count) {
+        final List<String> names = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            names.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    private static int[] readInts(final ByteBuffer buffer, final int count) {
+        final int[] values = new int[count];
+        final IntBuffer ints = buffer.asIntBuffer();
+        ints.get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
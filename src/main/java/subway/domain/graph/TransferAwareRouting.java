@@ -0,0 +1,249 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import subway.domain.Route;
+import subway.domain.Station;
+
+// 역과 노선의 쌍을 노드로 하는 그래프에서 (거리, 환승 횟수)의 파레토 최적 경로를 구한다.
+// 환승 횟수별로 한 층씩 탐색하며, 환승이 더 적은 층에서 이미 더 짧게 도달한 노드는 버린다.
+// 층에는 실제 거리만 담고, 환승 가중치는 찾은 파레토 경로의 순서를 정할 때만 쓴다.
+public class TransferAwareRouting {
+    private static final int TRANSFER = -2;
+    // 층마다 노드 수만큼의 탐색 공간을 스레드별로 들고 있으므로 환승 횟수에 상한을 둔다.
+    public static final int MAX_TRANSFERS = 8;
+
+    private final StationGraph graph;
+    private final int[] stationOffsets;
+    private final int[] nodeStations;
+    private final int[] nodeLines;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] stationArcs;
+    private final ThreadLocal<List<SearchSpace>> layers;
+
+    public TransferAwareRouting(final StationGraph graph) {
+        this.graph = graph;
+        final int stationCount = graph.stationCount();
+        this.stationOffsets = new int[stationCount + 1];
+        final IntArrayList lines = new IntArrayList();
+        for (int station = 0; station < stationCount; station++) {
+            stationOffsets[station] = lines.size();
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                if (indexOf(lines, stationOffsets[station], graph.lines[arc]) < 0) {
+                    lines.add(graph.lines[arc]);
+                }
+            }
+        }
+        stationOffsets[stationCount] = lines.size();
+        this.nodeLines = lines.toArray();
+        this.nodeStations = new int[nodeLines.length];
+        for (int station = 0; station < stationCount; station++) {
+            for (int node = stationOffsets[station]; node < stationOffsets[station + 1]; node++) {
+                nodeStations[node] = station;
+            }
+        }
+        this.offsets = new int[nodeLines.length + 1];
+        for (int station = 0; station < stationCount; station++) {
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                offsets[nodeOf(station, graph.lines[arc]) + 1]++;
+            }
+        }
+        for (int node = 0; node < nodeLines.length; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        final int[] cursors = offsets.clone();
+        this.targets = new int[graph.arcCount()];
+        this.weights = new int[graph.arcCount()];
+        this.stationArcs = new int[graph.arcCount()];
+        for (int station = 0; station < stationCount; station++) {
+            for (int arc = graph.begin(station), end = graph.end(station); arc < end; arc++) {
+                final int line = graph.lines[arc];
+                final int index = cursors[nodeOf(station, line)]++;
+                targets[index] = nodeOf(graph.targets[arc], line);
+                weights[index] = graph.weights[arc];
+                stationArcs[index] = arc;
+            }
+        }
+        this.layers = ThreadLocal.withInitial(ArrayList::new);
+    }
+
+    private static int indexOf(final IntArrayList values, final int from, final int value) {
+        for (int index = from; index < values.size(); index++) {
+            if (values.get(index) == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int nodeOf(final int station, final int line) {
+        for (int node = stationOffsets[station]; node < stationOffsets[station + 1]; node++) {
+            if (nodeLines[node] == line) {
+                return node;
+            }
+        }
+        throw new IllegalStateException("역에 연결된 노선이 아닙니다.");
+    }
+
+    int nodeCount() {
+        return nodeLines.length;
+    }
+
+    public List<Route> find(
+            final Station source,
+            final Station target,
+            final int transferPenalty,
+            final int maxTransfers
+    ) {
+        validate(transferPenalty, maxTransfers);
+        final int sourceId = graph.sourceIdOf(source);
+        final int targetId = graph.targetIdOf(target);
+        if (sourceId == targetId) {
+            return List.of(graph.toRoute(new int[]{sourceId}, new int[0], 0));
+        }
+        final List<SearchSpace> spaces = layers.get();
+        final List<Route> routes = new ArrayList<>();
+        int bestDistance = SearchSpace.UNREACHABLE;
+        for (int transfers = 0; transfers <= maxTransfers; transfers++) {
+            final SearchSpace layer = layerOf(spaces, transfers);
+            layer.reset();
+            final boolean seeded = transfers == 0
+                    ? seedSource(layer, sourceId)
+                    : seedTransfers(spaces, transfers, bestDistance);
+            if (!seeded) {
+                break;
+            }
+            expand(spaces, transfers, bestDistance);
+            final int arrival = bestNodeAt(layer, targetId);
+            if (arrival != StationGraph.NO_STATION && layer.distance(arrival) < bestDistance) {
+                bestDistance = layer.distance(arrival);
+                routes.add(toRoute(spaces, transfers, arrival, sourceId));
+            }
+        }
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+        return rank(routes, transferPenalty);
+    }
+
+    // 환승 횟수순으로 찾은 경로를 거리에 환승 가중치를 더한 값으로 정렬한다. 값이 같으면 환승이 적은 경로가 앞선다.
+    private static List<Route> rank(final List<Route> routes, final int transferPenalty) {
+        routes.sort(Comparator.comparingLong(
+                route -> route.getDistance() + (long) transferPenalty * route.getTransferStations().size()));
+        return routes;
+    }
+
+    private void validate(final int transferPenalty, final int maxTransfers) {
+        if (transferPenalty < 0) {
+            throw new IllegalArgumentException("환승 가중치는 0 이상이어야 합니다.");
+        }
+        validateMaxTransfers(maxTransfers);
+    }
+
+    public static void validateMaxTransfers(final int maxTransfers) {
+        if (maxTransfers < 0 || maxTransfers > MAX_TRANSFERS) {
+            throw new IllegalArgumentException("최대 환승 횟수는 0 이상 " + MAX_TRANSFERS + " 이하여야 합니다.");
+        }
+    }
+
+    // 앞 층에서 더 적은 환승으로 목적지에 닿으면 탐색이 일찍 끝나므로, 층은 실제로 내려갈 때 만든다.
+    private SearchSpace layerOf(final List<SearchSpace> spaces, final int transfers) {
+        if (spaces.size() == transfers) {
+            spaces.add(new SearchSpace(nodeLines.length));
+        }
+        return spaces.get(transfers);
+    }
+
+    private boolean seedSource(final SearchSpace layer, final int source) {
+        for (int node = stationOffsets[source]; node < stationOffsets[source + 1]; node++) {
+            layer.start(node);
+        }
+        return layer.hasNext();
+    }
+
+    private boolean seedTransfers(
+            final List<SearchSpace> spaces,
+            final int transfers,
+            final int bestDistance
+    ) {
+        final SearchSpace previous = spaces.get(transfers - 1);
+        final SearchSpace layer = spaces.get(transfers);
+        for (int node = 0; node < nodeLines.length; node++) {
+            if (!previous.isSettled(node)) {
+                continue;
+            }
+            final int distance = previous.distance(node);
+            final int station = nodeStations[node];
+            for (int next = stationOffsets[station]; next < stationOffsets[station + 1]; next++) {
+                if (next != node && distance < bestDistance && distance < bestBefore(spaces, transfers, next)) {
+                    layer.relax(next, node, TRANSFER, distance);
+                }
+            }
+        }
+        return layer.hasNext();
+    }
+
+    private void expand(final List<SearchSpace> spaces, final int transfers, final int bestDistance) {
+        final SearchSpace layer = spaces.get(transfers);
+        while (layer.hasNext() && layer.peekDistance() < bestDistance) {
+            final int node = layer.settleNext();
+            final int distance = layer.distance(node);
+            for (int arc = offsets[node], end = offsets[node + 1]; arc < end; arc++) {
+                final int next = targets[arc];
+                final int candidate = distance + weights[arc];
+                if (!layer.isSettled(next) && candidate < bestBefore(spaces, transfers, next)) {
+                    layer.relax(next, node, arc, candidate);
+                }
+            }
+        }
+    }
+
+    // 더 적은 환승으로 같은 노드에 도달한 가장 짧은 거리. 이보다 길면 지배당한 경로다.
+    private int bestBefore(final List<SearchSpace> spaces, final int transfers, final int node) {
+        int best = SearchSpace.UNREACHABLE;
+        for (int layer = 0; layer < transfers; layer++) {
+            if (spaces.get(layer).isSettled(node)) {
+                best = Math.min(best, spaces.get(layer).distance(node));
+            }
+        }
+        return best;
+    }
+
+    private int bestNodeAt(final SearchSpace layer, final int station) {
+        int best = StationGraph.NO_STATION;
+        for (int node = stationOffsets[station]; node < stationOffsets[station + 1]; node++) {
+            if (layer.isSettled(node) && (best == StationGraph.NO_STATION || layer.distance(node) < layer.distance(best))) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    private Route toRoute(final List<SearchSpace> spaces, final int transfers, final int arrival, final int source) {
+        final IntArrayList arcs = new IntArrayList();
+        int layer = transfers;
+        int node = arrival;
+        while (spaces.get(layer).parentArc(node) != -1) {
+            final SearchSpace space = spaces.get(layer);
+            final int arc = space.parentArc(node);
+            node = space.parent(node);
+            if (arc == TRANSFER) {
+                layer--;
+            } else {
+                arcs.add(stationArcs[arc]);
+            }
+        }
+        final int arcCount = arcs.size();
+        final int[] routeArcs = new int[arcCount];
+        final int[] routeStations = new int[arcCount + 1];
+        routeStations[0] = source;
+        for (int index = 0; index < arcCount; index++) {
+            routeArcs[index] = arcs.get(arcCount - 1 - index);
+            routeStations[index + 1] = graph.targets[routeArcs[index]];
+        }
+        return graph.toRoute(routeStations, routeArcs, arcCount);
+    }
+}
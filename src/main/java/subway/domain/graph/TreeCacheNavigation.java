@@ -0,0 +1,74 @@
+package subway.domain.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Station;
+
+public class TreeCacheNavigation implements Navigation {
+
+    private final StationGraph graph;
+    private final ShortestPathTreeCache cache;
+
+    public TreeCacheNavigation(final StationGraph graph, final ShortestPathTreeCache cache) {
+        this.graph = graph;
+        this.cache = cache;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return graph.estimatedBytes() + cache.getBytes();
+    }
+
+    @Override
+    public Route getRoute(final Station source, final Station target) {
+        final ShortestPathTree tree = treeOf(graph.sourceIdOf(source));
+        return toRoute(tree, graph.targetIdOf(target));
+    }
+
+    @Override
+    public int getDistance(final Station source, final Station target) {
+        final ShortestPathTree tree = treeOf(graph.sourceIdOf(source));
+        final int targetId = graph.targetIdOf(target);
+        validateReachable(tree, targetId);
+        return tree.distance(targetId);
+    }
+
+    @Override
+    public int[] getDistances(final Station source, final List<Station> targets) {
+        final ShortestPathTree tree = treeOf(graph.sourceIdOf(source));
+        final int[] distances = new int[targets.size()];
+        for (int i = 0; i < distances.length; i++) {
+            final int targetId = graph.targetIdOf(targets.get(i));
+            distances[i] = tree.reaches(targetId) ? tree.distance(targetId) : UNREACHABLE;
+        }
+        return distances;
+    }
+
+    @Override
+    public List<Route> getRoutes(final Station source, final List<Station> targets) {
+        final ShortestPathTree tree = treeOf(graph.sourceIdOf(source));
+        final List<Route> routes = new ArrayList<>(targets.size());
+        for (Station target : targets) {
+            routes.add(toRoute(tree, graph.targetIdOf(target)));
+        }
+        return routes;
+    }
+
+    // 그래프를 제자리에서 고치면 버전이 바뀌므로 고치기 전에 만든 트리는 다시 쓰이지 않는다.
+    private ShortestPathTree treeOf(final int source) {
+        return cache.get(graph.version(), source, () -> ShortestPathTree.grow(graph, source));
+    }
+
+    private Route toRoute(final ShortestPathTree tree, final int target) {
+        validateReachable(tree, target);
+        return graph.toRoute(tree.source(), target, tree.parents(), tree.parentArcs());
+    }
+
+    private void validateReachable(final ShortestPathTree tree, final int target) {
+        if (!tree.reaches(target)) {
+            throw new IllegalStateException("두 역 사이의 경로가 존재하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package subway.dto.request;
+
+import java.time.LocalTime;
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import subway.service.dto.DepartureDto;
+
+public class CreateDepartureRequest {
+
+    @NotNull(message = "노선 정보가 입력되지 않았습니다.")
+    private final Long lineId;
+
+    @NotEmpty(message = "출발역이 입력되지 않았습니다.")
+    private final String sourceStation;
+
+    @NotEmpty(message = "도착역이 입력되지 않았습니다.")
+    private final String targetStation;
+
+    @NotEmpty(message = "출발 시각이 입력되지 않았습니다.")
+    private final List<@NotNull LocalTime> departureTimes;
+
+    @NotNull(message = "소요 시간이 입력되지 않았습니다.")
+    @Positive(message = "소요 시간은 1분 이상이어야 합니다.")
+    private final Integer travelMinutes;
+
+    public CreateDepartureRequest(
+            final Long lineId,
+            final String sourceStation,
+            final String targetStation,
+            final List<LocalTime> departureTimes,
+            final Integer travelMinutes
+    ) {
+        this.lineId = lineId;
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.departureTimes = departureTimes;
+        this.travelMinutes = travelMinutes;
+    }
+
+    public DepartureDto toDto() {
+        return new DepartureDto(lineId, sourceStation, targetStation, departureTimes, travelMinutes);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public List<LocalTime> getDepartureTimes() {
+        return departureTimes;
+    }
+
+    public Integer getTravelMinutes() {
+        return travelMinutes;
+    }
+}
@@ -0,0 +1,41 @@
+package subway.dto.request;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import subway.service.dto.AlternativePathDto;
+
+public class ReadAlternativePathRequest {
+
+    @NotEmpty(message = "출발역 이름이 입력되지 않았습니다.")
+    private final String sourceStation;
+
+    @NotEmpty(message = "도착역 이름이 입력되지 않았습니다.")
+    private final String targetStation;
+
+    @Min(value = 1, message = "경로 개수는 1 이상이어야 합니다.")
+    @Max(value = 10, message = "경로 개수는 10 이하여야 합니다.")
+    private final int count;
+
+    public ReadAlternativePathRequest(final String sourceStation, final String targetStation, final int count) {
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.count = count;
+    }
+
+    public AlternativePathDto toDto() {
+        return new AlternativePathDto(sourceStation, targetStation, count);
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
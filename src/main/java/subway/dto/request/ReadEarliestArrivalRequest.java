@@ -0,0 +1,44 @@
+package subway.dto.request;
+
+import java.time.LocalTime;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import subway.service.dto.EarliestArrivalDto;
+
+public class ReadEarliestArrivalRequest {
+
+    @NotEmpty(message = "출발역 이름이 입력되지 않았습니다.")
+    private final String sourceStation;
+
+    @NotEmpty(message = "도착역 이름이 입력되지 않았습니다.")
+    private final String targetStation;
+
+    @NotNull(message = "출발 시각이 입력되지 않았습니다.")
+    private final LocalTime departureTime;
+
+    public ReadEarliestArrivalRequest(
+            final String sourceStation,
+            final String targetStation,
+            final LocalTime departureTime
+    ) {
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.departureTime = departureTime;
+    }
+
+    public EarliestArrivalDto toDto() {
+        return new EarliestArrivalDto(sourceStation, targetStation, departureTime);
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+}
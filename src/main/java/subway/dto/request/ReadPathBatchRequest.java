@@ -0,0 +1,33 @@
+package subway.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import subway.service.dto.PathDto;
+
+public class ReadPathBatchRequest {
+    public static final int MAX_SIZE = 100;
+
+    @Valid
+    @NotEmpty(message = "조회할 경로가 입력되지 않았습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 조회할 수 있는 경로는 " + MAX_SIZE + "개 이하입니다.")
+    private final List<ReadPathRequest> paths;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public ReadPathBatchRequest(final List<ReadPathRequest> paths) {
+        this.paths = paths;
+    }
+
+    public List<PathDto> toDto() {
+        return paths.stream()
+                .map(ReadPathRequest::toDto)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<ReadPathRequest> getPaths() {
+        return paths;
+    }
+}
@@ -0,0 +1,35 @@
+package subway.dto.request;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import subway.service.dto.PathMatrixDto;
+
+public class ReadPathMatrixRequest {
+    public static final int MAX_SIZE = 100;
+
+    @NotEmpty(message = "출발역 목록이 입력되지 않았습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 조회할 수 있는 출발역은 " + MAX_SIZE + "개 이하입니다.")
+    private final List<String> sourceStations;
+
+    @NotEmpty(message = "도착역 목록이 입력되지 않았습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 조회할 수 있는 도착역은 " + MAX_SIZE + "개 이하입니다.")
+    private final List<String> targetStations;
+
+    public ReadPathMatrixRequest(final List<String> sourceStations, final List<String> targetStations) {
+        this.sourceStations = sourceStations;
+        this.targetStations = targetStations;
+    }
+
+    public PathMatrixDto toDto() {
+        return new PathMatrixDto(sourceStations, targetStations);
+    }
+
+    public List<String> getSourceStations() {
+        return sourceStations;
+    }
+
+    public List<String> getTargetStations() {
+        return targetStations;
+    }
+}
@@ -0,0 +1,74 @@
+package subway.dto.response;
+
+import java.time.LocalTime;
+import java.util.List;
+import subway.domain.Journey;
+
+public class EarliestArrivalResponse {
+
+    private final int fare;
+    private final int distance;
+    private final List<String> stations;
+    private final List<LegResponse> legs;
+    private final List<String> transferStations;
+    private final LocalTime departureTime;
+    private final LocalTime arrivalTime;
+
+    public EarliestArrivalResponse(
+            final int fare,
+            final int distance,
+            final List<String> stations,
+            final List<LegResponse> legs,
+            final List<String> transferStations,
+            final LocalTime departureTime,
+            final LocalTime arrivalTime
+    ) {
+        this.fare = fare;
+        this.distance = distance;
+        this.stations = stations;
+        this.legs = legs;
+        this.transferStations = transferStations;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public static EarliestArrivalResponse from(final int fare, final Journey journey) {
+        final PathResponse path = PathResponse.from(fare, journey.getRoute());
+        return new EarliestArrivalResponse(
+                path.getFare(),
+                path.getDistance(),
+                path.getStations(),
+                path.getLegs(),
+                path.getTransferStations(),
+                LocalTime.ofSecondOfDay(journey.getDepartureTime()),
+                LocalTime.ofSecondOfDay(journey.getArrivalTime()));
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<String> getStations() {
+        return stations;
+    }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+
+    public List<String> getTransferStations() {
+        return transferStations;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+}
@@ -0,0 +1,38 @@
+package subway.dto.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import subway.domain.Leg;
+import subway.domain.Station;
+
+public class LegResponse {
+
+    private final String lineName;
+    private final int distance;
+    private final List<String> stations;
+
+    public LegResponse(final String lineName, final int distance, final List<String> stations) {
+        this.lineName = lineName;
+        this.distance = distance;
+        this.stations = stations;
+    }
+
+    public static LegResponse from(final Leg leg) {
+        final List<String> stationNames = leg.getStations().stream()
+                .map(Station::getName)
+                .collect(Collectors.toUnmodifiableList());
+        return new LegResponse(leg.getLineName(), leg.getDistance(), stationNames);
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public List<String> getStations() {
+        return stations;
+    }
+}
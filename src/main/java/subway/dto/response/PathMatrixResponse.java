@@ -0,0 +1,40 @@
+package subway.dto.response;
+
+import java.util.List;
+
+// distances와 fares는 출발역 순서대로 한 행씩 이어 붙인 배열이며, 경로가 없는 칸은 -1이다.
+public class PathMatrixResponse {
+
+    private final List<String> sourceStations;
+    private final List<String> targetStations;
+    private final int[] distances;
+    private final int[] fares;
+
+    public PathMatrixResponse(
+            final List<String> sourceStations,
+            final List<String> targetStations,
+            final int[] distances,
+            final int[] fares
+    ) {
+        this.sourceStations = sourceStations;
+        this.targetStations = targetStations;
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public List<String> getSourceStations() {
+        return sourceStations;
+    }
+
+    public List<String> getTargetStations() {
+        return targetStations;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+
+    public int[] getFares() {
+        return fares;
+    }
+}
@@ -2,6 +2,7 @@ package subway.dto.response;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import subway.domain.Route;
 import subway.domain.Station;
 
 public class PathResponse {
@@ -9,18 +10,35 @@ public class PathResponse {
     private final int fare;
     private final int distance;
     private final List<String> stations;
-
-    public PathResponse(final int fare, final int distance, final List<String> stations) {
+    private final List<LegResponse> legs;
+    private final List<String> transferStations;
+
+    public PathResponse(
+            final int fare,
+            final int distance,
+            final List<String> stations,
+            final List<LegResponse> legs,
+            final List<String> transferStations
+    ) {
         this.stations = stations;
         this.fare = fare;
         this.distance = distance;
+        this.legs = legs;
+        this.transferStations = transferStations;
+    }
+
+    public static PathResponse from(final int fare, final Route route) {
+        final List<LegResponse> legs = route.getLegs().stream()
+                .map(LegResponse::from)
+                .collect(Collectors.toUnmodifiableList());
+        return new PathResponse(
+                fare, route.getDistance(), toNames(route.getStations()), legs, toNames(route.getTransferStations()));
     }
 
-    public static PathResponse from(final int fare, final int distance, final List<Station> stations) {
-        final List<String> stationNames = stations.stream()
+    private static List<String> toNames(final List<Station> stations) {
+        return stations.stream()
                 .map(Station::getName)
                 .collect(Collectors.toUnmodifiableList());
-        return new PathResponse(fare, distance, stationNames);
     }
 
     public int getFare() {
@@ -34,4 +52,12 @@ public class PathResponse {
     public List<String> getStations() {
         return stations;
     }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+
+    public List<String> getTransferStations() {
+        return transferStations;
+    }
 }
@@ -0,0 +1,33 @@
+package subway.dto.response;
+
+import subway.domain.ReachableStation;
+
+public class ReachableStationResponse {
+
+    private final String station;
+    private final int distance;
+    private final int fare;
+
+    public ReachableStationResponse(final String station, final int distance, final int fare) {
+        this.station = station;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static ReachableStationResponse from(final int fare, final ReachableStation reachableStation) {
+        return new ReachableStationResponse(
+                reachableStation.getStation().getName(), reachableStation.getDistance(), fare);
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
@@ -14,6 +14,7 @@ import subway.domain.Line;
 import subway.domain.Section;
 import subway.domain.Station;
 import subway.domain.Subway;
+import subway.domain.graph.StationGraph;
 
 @Repository
 public class SubwayRepository {
@@ -36,6 +37,17 @@ public class SubwayRepository {
         return new Subway(lines);
     }
 
+    // 노선, 구간, 역 객체를 만들지 않고 구간 행을 바로 경로 탐색 그래프의 배열로 옮긴다.
+    public StationGraph.Builder readStationGraph() {
+        final StationGraph.Builder builder = new StationGraph.Builder();
+        sectionDao.streamAllWithNames(builder::addSection);
+        return builder;
+    }
+
+    public long readNetworkFingerprint() {
+        return sectionDao.fingerprint();
+    }
+
     private Line toLine(final LineEntity lineEntity, final List<SectionEntity> sectionEntities) {
         final List<Section> sections = sectionEntities.stream()
                 .map(sectionEntity -> {
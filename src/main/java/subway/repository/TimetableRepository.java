@@ -0,0 +1,113 @@
+package subway.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import subway.dao.DepartureDao;
+import subway.dao.StationDao;
+import subway.dao.entity.DepartureEntity;
+import subway.dao.entity.StationEntity;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.graph.ConnectionScan;
+
+@Repository
+public class TimetableRepository {
+    private static final Logger log = LoggerFactory.getLogger(TimetableRepository.class);
+    private static final int MIN_SPLIT_TRAVEL_TIME = 2;
+
+    private final DepartureDao departureDao;
+    private final StationDao stationDao;
+
+    public TimetableRepository(final DepartureDao departureDao, final StationDao stationDao) {
+        this.departureDao = departureDao;
+        this.stationDao = stationDao;
+    }
+
+    public void registerDepartures(
+            final Long lineId,
+            final Station source,
+            final Station target,
+            final List<Integer> departureTimes,
+            final int travelTime
+    ) {
+        final Long sourceId = findStationIdByName(source.getName());
+        final Long targetId = findStationIdByName(target.getName());
+        final List<DepartureEntity> departureEntities = departureTimes.stream()
+                .map(departureTime -> new DepartureEntity(
+                        lineId, sourceId, targetId, departureTime, departureTime + travelTime))
+                .collect(Collectors.toList());
+        departureDao.insertAll(departureEntities);
+    }
+
+    private Long findStationIdByName(final String name) {
+        final StationEntity stationEntity = stationDao.findByName(name)
+                .orElseThrow(() -> new NoSuchElementException("해당 이름을 가진 역이 존재하지 않습니다."));
+        return stationEntity.getId();
+    }
+
+    // 구간 가운데에 역이 들어오면 그 구간의 출발편을 두 구간의 출발편으로 나눈다.
+    // 가운데 역의 시각은 따로 주어지지 않으므로 소요 시간을 거리 비율대로 나눠 정하고,
+    // 두 구간 모두 1초 이상 걸리도록 한다. 그럴 수 없을 만큼 짧은 출발편은 지운다.
+    public void splitDepartures(final Long lineId, final Section split, final Section firstPart) {
+        final Long sourceId = findStationIdByName(split.getSource().getName());
+        final Long targetId = findStationIdByName(split.getTarget().getName());
+        final Long middleId = findStationIdByName(firstPart.getTarget().getName());
+        final List<DepartureEntity> departures = departureDao.findBySection(lineId, sourceId, targetId);
+        if (departures.isEmpty()) {
+            return;
+        }
+        final List<DepartureEntity> splitDepartures = new ArrayList<>();
+        for (DepartureEntity departure : departures) {
+            final int firstDistance = departure.getSourceStationId().equals(sourceId)
+                    ? firstPart.getDistance() : split.getDistance() - firstPart.getDistance();
+            final int travelTime = departure.getArrivalTime() - departure.getDepartureTime();
+            if (travelTime < MIN_SPLIT_TRAVEL_TIME) {
+                log.info("나눌 수 없을 만큼 짧은 출발편을 지웠습니다. lineId={}, departureId={}",
+                        lineId, departure.getId());
+                continue;
+            }
+            final int firstTravelTime = (int) ((long) travelTime * firstDistance / split.getDistance());
+            final int middleTime = departure.getDepartureTime()
+                    + Math.max(1, Math.min(travelTime - 1, firstTravelTime));
+            splitDepartures.add(new DepartureEntity(lineId, departure.getSourceStationId(), middleId,
+                    departure.getDepartureTime(), middleTime));
+            splitDepartures.add(new DepartureEntity(lineId, middleId, departure.getTargetStationId(),
+                    middleTime, departure.getArrivalTime()));
+        }
+        departureDao.deleteBySection(lineId, sourceId, targetId);
+        departureDao.insertAll(splitDepartures);
+    }
+
+    // 없어진 구간의 출발편은 더 이상 달릴 구간이 없으므로 지운다.
+    public void deleteDepartures(final Long lineId, final Section section) {
+        final Long sourceId = findStationIdByName(section.getSource().getName());
+        final Long targetId = findStationIdByName(section.getTarget().getName());
+        final int deleted = departureDao.deleteBySection(lineId, sourceId, targetId);
+        if (deleted > 0) {
+            log.info("없어진 구간의 출발편을 지웠습니다. lineId={}, section={}-{}, departures={}",
+                    lineId, section.getSource().getName(), section.getTarget().getName(), deleted);
+        }
+    }
+
+    // 출발편 행을 출발 시각순으로 읽어 바로 연결 배열로 옮긴다.
+    // 구간과 맞지 않아 빠진 출발편이 있으면 조용히 사라지지 않도록 개수를 남긴다.
+    public ConnectionScan readConnectionScan() {
+        final ConnectionScan.Builder builder = new ConnectionScan.Builder();
+        final AtomicLong loaded = new AtomicLong();
+        departureDao.streamAllWithNames((lineName, source, target, departureTime, arrivalTime, distance) -> {
+            builder.addConnection(lineName, source, target, departureTime, arrivalTime, distance);
+            loaded.incrementAndGet();
+        });
+        final long dropped = departureDao.count() - loaded.get();
+        if (dropped > 0) {
+            log.warn("노선의 구간과 맞지 않는 출발편 {}개를 시간표에서 뺐습니다.", dropped);
+        }
+        return builder.build();
+    }
+}
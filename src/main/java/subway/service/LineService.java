@@ -3,6 +3,7 @@ package subway.service;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.Line;
@@ -12,22 +13,31 @@ import subway.service.dto.LineDto;
 import subway.dto.response.LineResponse;
 import subway.repository.LineRepository;
 import subway.repository.SubwayRepository;
+import subway.service.event.SubwayChangedEvent;
 
 @Service
 public class LineService {
 
     private final SubwayRepository subwayRepository;
     private final LineRepository lineRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(final SubwayRepository subwayRepository, final LineRepository lineRepository) {
+    public LineService(
+            final SubwayRepository subwayRepository,
+            final LineRepository lineRepository,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.subwayRepository = subwayRepository;
         this.lineRepository = lineRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Long register(final LineDto lineDto) {
         final Line line = new Line(lineDto.getName(), lineDto.getColor());
-        return lineRepository.registerLine(line);
+        final Long id = lineRepository.registerLine(line);
+        eventPublisher.publishEvent(new SubwayChangedEvent(id));
+        return id;
     }
 
     @Transactional(readOnly = true)
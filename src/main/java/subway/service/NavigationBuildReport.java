@@ -0,0 +1,67 @@
+package subway.service;
+
+import java.util.concurrent.TimeUnit;
+import subway.domain.Navigation;
+
+// 어떤 엔진을 어느 크기의 노선망으로 만들었는지, 얼마나 걸리고 얼마나 차지하는지 남긴다.
+// 축약 계층의 지름길 수나 허브 레이블 크기처럼 엔진마다 다른 전처리 결과는 details에 담는다.
+public class NavigationBuildReport {
+
+    private final NavigationEngine engine;
+    private final int stationCount;
+    private final int sectionCount;
+    private final long buildNanos;
+    private final long bytes;
+    private final String details;
+
+    public NavigationBuildReport(
+            final NavigationEngine engine,
+            final int stationCount,
+            final int sectionCount,
+            final long buildNanos,
+            final long bytes,
+            final String details
+    ) {
+        this.engine = engine;
+        this.stationCount = stationCount;
+        this.sectionCount = sectionCount;
+        this.buildNanos = buildNanos;
+        this.bytes = bytes;
+        this.details = details;
+    }
+
+    public NavigationEngine getEngine() {
+        return engine;
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    public long getBuildMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(buildNanos);
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    @Override
+    public String toString() {
+        final String memory = bytes == Navigation.UNKNOWN_BYTES ? "unknown" : String.valueOf(bytes);
+        final String report = String.format("engine=%s, stations=%d, sections=%d, build=%dms, bytes=%s",
+                engine, stationCount, sectionCount, getBuildMillis(), memory);
+        if (details.isEmpty()) {
+            return report;
+        }
+        return report + ", " + details;
+    }
+}
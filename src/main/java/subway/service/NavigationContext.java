@@ -0,0 +1,66 @@
+package subway.service;
+
+import subway.domain.graph.ShortestPathTreeCache;
+import subway.domain.graph.StationGraph;
+
+public class NavigationContext {
+
+    private StationGraph.Builder graphBuilder;
+    private final long version;
+    private final NavigationProperties properties;
+    private final ShortestPathTreeCache treeCache;
+    private StationGraph graph;
+
+    public NavigationContext(
+            final StationGraph.Builder graphBuilder,
+            final long version,
+            final NavigationProperties properties,
+            final ShortestPathTreeCache treeCache
+    ) {
+        this.graphBuilder = graphBuilder;
+        this.version = version;
+        this.properties = properties;
+        this.treeCache = treeCache;
+    }
+
+    // 파일에서 읽은 그래프로 시작하면 수정 가능한 그래프가 필요할 때만 구간을 다시 모은다.
+    public NavigationContext(
+            final StationGraph graph,
+            final long version,
+            final NavigationProperties properties,
+            final ShortestPathTreeCache treeCache
+    ) {
+        this.graph = graph;
+        this.version = version;
+        this.properties = properties;
+        this.treeCache = treeCache;
+    }
+
+    // 읽기만 하는 엔진과 스냅샷의 부가 기능은 같은 그래프를 나눠 쓴다.
+    public synchronized StationGraph getGraph() {
+        if (graph == null) {
+            graph = graphBuilder.build();
+        }
+        return graph;
+    }
+
+    // 제자리에서 고치는 그래프는 공유하면 안 되므로 매번 새로 만든다.
+    public synchronized StationGraph createEditableGraph() {
+        if (graphBuilder == null) {
+            graphBuilder = StationGraph.builderOf(graph);
+        }
+        return graphBuilder.buildEditable(version);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public NavigationProperties getProperties() {
+        return properties;
+    }
+
+    public ShortestPathTreeCache getTreeCache() {
+        return treeCache;
+    }
+}
@@ -0,0 +1,14 @@
+package subway.service;
+
+// 설정으로 고르는 경로 탐색 엔진의 이름. 엔진을 만드는 방법은 NavigationFactory 빈이 정한다.
+public enum NavigationEngine {
+    AUTO,
+    JGRAPHT,
+    CSR,
+    BIDIRECTIONAL,
+    CONTRACTION_HIERARCHY,
+    LANDMARK,
+    DISTANCE_MATRIX,
+    HUB_LABEL,
+    TREE_CACHE
+}
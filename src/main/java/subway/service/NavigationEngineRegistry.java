@@ -0,0 +1,81 @@
+package subway.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import subway.domain.graph.DistanceMatrixNavigation;
+import subway.domain.graph.StationGraph;
+
+// NavigationFactory 빈을 엔진 이름으로 찾는다. AUTO는 노선망의 크기를 보고 엔진을 고른다.
+@Component
+public class NavigationEngineRegistry {
+    private static final Logger log = LoggerFactory.getLogger(NavigationEngineRegistry.class);
+
+    private final Map<NavigationEngine, NavigationFactory> factories = new EnumMap<>(NavigationEngine.class);
+    private final NavigationProperties properties;
+
+    public NavigationEngineRegistry(final List<NavigationFactory> factories, final NavigationProperties properties) {
+        for (NavigationFactory factory : factories) {
+            validate(factory);
+            this.factories.put(factory.getEngine(), factory);
+        }
+        this.properties = properties;
+    }
+
+    private void validate(final NavigationFactory factory) {
+        if (factory.getEngine() == NavigationEngine.AUTO) {
+            throw new IllegalStateException("AUTO는 엔진을 고르는 방식이므로 직접 등록할 수 없습니다.");
+        }
+        if (factories.containsKey(factory.getEngine())) {
+            throw new IllegalStateException("같은 경로 탐색 엔진이 두 번 등록되었습니다. engine=" + factory.getEngine());
+        }
+    }
+
+    public NavigationFactory select(final NavigationEngine engine, final StationGraph graph) {
+        if (engine == NavigationEngine.AUTO) {
+            final NavigationEngine chosen = choose(graph);
+            log.info("자동 모드가 경로 탐색 엔진을 골랐습니다. engine={}, stations={}, sections={}, estimatedBytes={}",
+                    chosen, graph.stationCount(), graph.arcCount() / 2, estimatedBytes(chosen, graph));
+            return get(chosen);
+        }
+        return get(engine);
+    }
+
+    public NavigationFactory get(final NavigationEngine engine) {
+        final NavigationFactory factory = factories.get(engine);
+        if (factory == null) {
+            throw new IllegalStateException("등록되지 않은 경로 탐색 엔진입니다. engine=" + engine);
+        }
+        return factory;
+    }
+
+    // 구간이 적으면 전처리 없는 다익스트라로 충분하고, 거리 행렬이 역 수와 바이트 한도 안에 들어가면 미리 계산해 두며,
+    // 그보다 크면 전처리 없이 탐색 범위를 줄이는 양방향 탐색을 쓴다.
+    NavigationEngine choose(final StationGraph graph) {
+        final int sectionCount = graph.arcCount() / 2;
+        if (sectionCount <= properties.getAutoDijkstraMaxSections()) {
+            return NavigationEngine.CSR;
+        }
+        if (DistanceMatrixNavigation.fits(graph, properties.getMatrixMaxStations(), properties.getMatrixMaxBytes())) {
+            return NavigationEngine.DISTANCE_MATRIX;
+        }
+        return NavigationEngine.BIDIRECTIONAL;
+    }
+
+    // 고른 엔진이 그래프 배열 외에 더 차지할 메모리를 미리 어림한다. 실제 크기는 생성 보고서에 남는다.
+    private static long estimatedBytes(final NavigationEngine engine, final StationGraph graph) {
+        if (engine == NavigationEngine.DISTANCE_MATRIX) {
+            return graph.estimatedBytes() + DistanceMatrixNavigation.matrixBytes(graph.stationCount());
+        }
+        return graph.estimatedBytes();
+    }
+
+    public Set<NavigationEngine> getEngines() {
+        return Collections.unmodifiableSet(factories.keySet());
+    }
+}
@@ -0,0 +1,15 @@
+package subway.service;
+
+import subway.domain.Navigation;
+
+public interface NavigationFactory {
+
+    NavigationEngine getEngine();
+
+    Navigation create(NavigationContext context);
+
+    // 전처리가 오래 걸리는 엔진은 임시 그래프로 먼저 응답하고 백그라운드에서 만든다.
+    default boolean isBuiltInBackground() {
+        return false;
+    }
+}
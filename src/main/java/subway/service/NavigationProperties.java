@@ -0,0 +1,117 @@
+package subway.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "subway.navigation")
+public class NavigationProperties {
+    private NavigationEngine engine = NavigationEngine.JGRAPHT;
+    private int landmarkCount = 8;
+    private int matrixMaxStations = 2000;
+    private long matrixMaxBytes = 32L * 1024 * 1024;
+    private int autoDijkstraMaxSections = 2000;
+    private long treeCacheMaxBytes = 64L * 1024 * 1024;
+    private long routeCacheMaxBytes = 16L * 1024 * 1024;
+    private double alternativeMaxRatio = 1.5;
+    private int transferPenalty = 5;
+    private int maxTransfers = 4;
+    private int matrixParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private String snapshotPath;
+
+    public NavigationEngine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(final NavigationEngine engine) {
+        this.engine = engine;
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    public void setLandmarkCount(final int landmarkCount) {
+        this.landmarkCount = landmarkCount;
+    }
+
+    public int getMatrixMaxStations() {
+        return matrixMaxStations;
+    }
+
+    public void setMatrixMaxStations(final int matrixMaxStations) {
+        this.matrixMaxStations = matrixMaxStations;
+    }
+
+    public long getMatrixMaxBytes() {
+        return matrixMaxBytes;
+    }
+
+    public void setMatrixMaxBytes(final long matrixMaxBytes) {
+        this.matrixMaxBytes = matrixMaxBytes;
+    }
+
+    public int getAutoDijkstraMaxSections() {
+        return autoDijkstraMaxSections;
+    }
+
+    public void setAutoDijkstraMaxSections(final int autoDijkstraMaxSections) {
+        this.autoDijkstraMaxSections = autoDijkstraMaxSections;
+    }
+
+    public long getTreeCacheMaxBytes() {
+        return treeCacheMaxBytes;
+    }
+
+    public void setTreeCacheMaxBytes(final long treeCacheMaxBytes) {
+        this.treeCacheMaxBytes = treeCacheMaxBytes;
+    }
+
+    public long getRouteCacheMaxBytes() {
+        return routeCacheMaxBytes;
+    }
+
+    public void setRouteCacheMaxBytes(final long routeCacheMaxBytes) {
+        this.routeCacheMaxBytes = routeCacheMaxBytes;
+    }
+
+    public double getAlternativeMaxRatio() {
+        return alternativeMaxRatio;
+    }
+
+    public void setAlternativeMaxRatio(final double alternativeMaxRatio) {
+        this.alternativeMaxRatio = alternativeMaxRatio;
+    }
+
+    public int getTransferPenalty() {
+        return transferPenalty;
+    }
+
+    public void setTransferPenalty(final int transferPenalty) {
+        this.transferPenalty = transferPenalty;
+    }
+
+    public int getMaxTransfers() {
+        return maxTransfers;
+    }
+
+    public void setMaxTransfers(final int maxTransfers) {
+        this.maxTransfers = maxTransfers;
+    }
+
+    public int getMatrixParallelism() {
+        return matrixParallelism;
+    }
+
+    public void setMatrixParallelism(final int matrixParallelism) {
+        this.matrixParallelism = matrixParallelism;
+    }
+
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(final String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+}
@@ -0,0 +1,274 @@
+package subway.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.domain.Navigation;
+import subway.domain.graph.IncrementalNavigation;
+import subway.domain.graph.ShortestPathTreeCache;
+import subway.domain.graph.StationGraph;
+import subway.domain.graph.StationGraphFile;
+import subway.repository.SubwayRepository;
+import subway.service.event.SubwayChangedEvent;
+
+@Component
+public class NavigationProvider {
+    private static final Logger log = LoggerFactory.getLogger(NavigationProvider.class);
+
+    private final SubwayRepository subwayRepository;
+    private final NavigationEngineRegistry engineRegistry;
+    private final NavigationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor backgroundExecutor;
+    private final ShortestPathTreeCache treeCache;
+    private final AtomicLong version = new AtomicLong();
+    private volatile NavigationSnapshot snapshot;
+    private volatile NavigationFactory activeFactory;
+    private volatile NavigationBuildReport buildReport;
+
+    @Autowired
+    public NavigationProvider(
+            final SubwayRepository subwayRepository,
+            final NavigationEngineRegistry engineRegistry,
+            final NavigationProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this(subwayRepository, engineRegistry, properties, meterRegistry,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "navigation-builder");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    NavigationProvider(
+            final SubwayRepository subwayRepository,
+            final NavigationEngineRegistry engineRegistry,
+            final NavigationProperties properties,
+            final MeterRegistry meterRegistry,
+            final Executor backgroundExecutor
+    ) {
+        this.subwayRepository = subwayRepository;
+        this.engineRegistry = engineRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.backgroundExecutor = backgroundExecutor;
+        this.treeCache = new ShortestPathTreeCache(properties.getTreeCacheMaxBytes());
+        registerMetrics(meterRegistry);
+    }
+
+    // 캐시와 엔진은 자기 통계를 이미 세고 있으므로, 잴 때마다 그 값을 읽어 간다.
+    private void registerMetrics(final MeterRegistry meterRegistry) {
+        Gauge.builder("subway.cache.size", treeCache, ShortestPathTreeCache::size)
+                .tag("cache", "tree")
+                .register(meterRegistry);
+        Gauge.builder("subway.cache.bytes", treeCache, ShortestPathTreeCache::getBytes)
+                .tag("cache", "tree")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.hits", treeCache, ShortestPathTreeCache::getHitCount)
+                .tag("cache", "tree")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.misses", treeCache, ShortestPathTreeCache::getMissCount)
+                .tag("cache", "tree")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.evictions", treeCache, ShortestPathTreeCache::getEvictionCount)
+                .tag("cache", "tree")
+                .register(meterRegistry);
+        Gauge.builder("subway.navigation.bytes", this, NavigationProvider::navigationBytes)
+                .description("지금 쓰는 경로 탐색 엔진이 차지하는 대략적인 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static double navigationBytes(final NavigationProvider navigationProvider) {
+        final NavigationBuildReport report = navigationProvider.getBuildReport();
+        if (report == null || report.getBytes() < 0) {
+            return Double.NaN;
+        }
+        return report.getBytes();
+    }
+
+    public NavigationSnapshot getSnapshot() {
+        final NavigationSnapshot current = snapshot;
+        if (current != null && current.isVersionOf(version.get())) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized NavigationSnapshot rebuild() {
+        final long targetVersion = version.get();
+        if (snapshot != null && snapshot.isVersionOf(targetVersion)) {
+            return snapshot;
+        }
+        treeCache.evictOlderThan(targetVersion);
+        final NavigationContext context = createContext(targetVersion);
+        final NavigationFactory factory = engineRegistry.select(properties.getEngine(), context.getGraph());
+        activeFactory = factory;
+        if (!factory.isBuiltInBackground()) {
+            snapshot = new NavigationSnapshot(targetVersion, createNavigation(factory, context), context::getGraph);
+            return snapshot;
+        }
+        // 전처리가 오래 걸리는 엔진은 같은 데이터로 만든 양방향 탐색으로 먼저 응답하고, 완성되면 교체한다.
+        final NavigationSnapshot interim = new NavigationSnapshot(targetVersion,
+                createNavigation(engineRegistry.get(NavigationEngine.BIDIRECTIONAL), context), context::getGraph);
+        snapshot = interim;
+        backgroundExecutor.execute(() -> replaceInBackground(factory, context));
+        return interim;
+    }
+
+    // 그래프 파일의 지문이 지금 데이터와 같으면 데이터베이스를 읽지 않고 파일로 시작한다.
+    // 지문을 그래프보다 먼저 읽어야, 그 사이에 커밋된 변경이 옛 지문을 단 파일로 남지 않는다.
+    private NavigationContext createContext(final long targetVersion) {
+        final String snapshotPath = properties.getSnapshotPath();
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return new NavigationContext(readStationGraph(), targetVersion, properties, treeCache);
+        }
+        final Path path = Path.of(snapshotPath);
+        final long fingerprint = subwayRepository.readNetworkFingerprint();
+        final Optional<StationGraph> stored = readSnapshotFile(path, fingerprint);
+        if (stored.isPresent()) {
+            return new NavigationContext(stored.get(), targetVersion, properties, treeCache);
+        }
+        final NavigationContext context = new NavigationContext(
+                readStationGraph(), targetVersion, properties, treeCache);
+        final StationGraph graph = context.getGraph();
+        backgroundExecutor.execute(() -> writeSnapshotFile(graph, fingerprint, path));
+        return context;
+    }
+
+    private StationGraph.Builder readStationGraph() {
+        final long startedAt = System.nanoTime();
+        final StationGraph.Builder graph = subwayRepository.readStationGraph();
+        graphLoadTimer("database").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return graph;
+    }
+
+    private Optional<StationGraph> readSnapshotFile(final Path path, final long fingerprint) {
+        final long startedAt = System.nanoTime();
+        try {
+            final Optional<StationGraph> graph = StationGraphFile.read(path, fingerprint);
+            final long elapsed = System.nanoTime() - startedAt;
+            graph.ifPresent(ignored -> {
+                graphLoadTimer("file").record(elapsed, TimeUnit.NANOSECONDS);
+                log.info("경로 탐색 그래프 파일을 읽었습니다. path={}, elapsed={}ms",
+                        path, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            });
+            return graph;
+        } catch (IOException e) {
+            log.warn("경로 탐색 그래프 파일을 읽지 못해 데이터베이스에서 읽습니다. path={}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeSnapshotFile(final StationGraph graph, final long fingerprint, final Path path) {
+        try {
+            StationGraphFile.write(graph, fingerprint, path);
+        } catch (IOException e) {
+            log.warn("경로 탐색 그래프 파일을 쓰지 못했습니다. path={}", path, e);
+        }
+    }
+
+    private void replaceInBackground(final NavigationFactory factory, final NavigationContext context) {
+        final long targetVersion = context.getVersion();
+        if (version.get() != targetVersion) {
+            return;
+        }
+        final Navigation navigation;
+        try {
+            navigation = createNavigation(factory, context);
+        } catch (RuntimeException e) {
+            log.error("경로 탐색 그래프를 백그라운드에서 생성하지 못했습니다. engine={}", factory.getEngine(), e);
+            return;
+        }
+        synchronized (this) {
+            if (snapshot != null && snapshot.isVersionOf(targetVersion)) {
+                snapshot = new NavigationSnapshot(targetVersion, navigation, context::getGraph);
+            }
+        }
+    }
+
+    private Navigation createNavigation(final NavigationFactory factory, final NavigationContext context) {
+        final long startedAt = System.nanoTime();
+        final Navigation navigation = factory.create(context);
+        final StationGraph graph = context.getGraph();
+        final long elapsed = System.nanoTime() - startedAt;
+        Timer.builder("subway.navigation.build")
+                .description("경로 탐색 엔진을 만드는 데 걸린 시간")
+                .tag("engine", factory.getEngine().name())
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        final NavigationBuildReport report = new NavigationBuildReport(factory.getEngine(), graph.stationCount(),
+                graph.arcCount() / 2, elapsed, navigation.estimatedBytes(), navigation.describe());
+        buildReport = report;
+        log.info("경로 탐색 그래프를 생성했습니다. {}", report);
+        return navigation;
+    }
+
+    private Timer graphLoadTimer(final String source) {
+        return Timer.builder("subway.navigation.graph.load")
+                .description("경로 탐색 그래프를 읽는 데 걸린 시간")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    // 가장 최근에 만든 엔진의 보고서. 백그라운드 엔진이 완성되기 전에는 임시 엔진의 보고서다.
+    public NavigationBuildReport getBuildReport() {
+        return buildReport;
+    }
+
+    public ShortestPathTreeCache getTreeCache() {
+        return treeCache;
+    }
+
+    // 변경이 커밋된 뒤에 버전을 올려야 커밋 전 데이터로 만든 그래프가 새 버전으로 남지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(final SubwayChangedEvent event) {
+        if (event.hasSectionChanges() && applyInPlace(event)) {
+            meterRegistry.counter("subway.navigation.invalidation", "type", "in-place").increment();
+            return;
+        }
+        meterRegistry.counter("subway.navigation.invalidation", "type", "rebuild").increment();
+        version.incrementAndGet();
+    }
+
+    // 최신 그래프를 제자리에서 고칠 수 있으면 구간 변경만 반영해 다음 버전으로 내보낸다.
+    // 백그라운드에서 만드는 엔진의 임시 그래프를 고치면 완성된 그래프가 버려지므로 새로 만든다.
+    // 고친 그래프는 그래프 파일에 다시 쓰지 않으므로, 다음 기동은 지문이 달라 데이터베이스에서 읽는다.
+    private synchronized boolean applyInPlace(final SubwayChangedEvent event) {
+        final NavigationSnapshot current = snapshot;
+        final NavigationFactory factory = activeFactory;
+        if (current == null || !current.isVersionOf(version.get())
+                || factory == null || factory.isBuiltInBackground()
+                || !(current.getNavigation() instanceof IncrementalNavigation)) {
+            return false;
+        }
+        final IncrementalNavigation navigation = (IncrementalNavigation) current.getNavigation();
+        final long nextVersion = current.getVersion() + 1;
+        if (!navigation.apply(event.getLineName(), event.getChanges(), nextVersion)
+                || !version.compareAndSet(current.getVersion(), nextVersion)) {
+            return false;
+        }
+        // 부가 기능은 잠금 없이 그래프를 읽으므로, 처음 필요할 때 고친 그래프를 복사해 쓴다.
+        final StationGraph edited = navigation.getGraph();
+        snapshot = new NavigationSnapshot(nextVersion, navigation, edited::compact);
+        treeCache.evictOlderThan(nextVersion);
+        log.debug("구간 변경을 경로 탐색 그래프에 반영했습니다. line={}, changes={}, version={}",
+                event.getLineName(), event.getChanges().size(), nextVersion);
+        return true;
+    }
+}
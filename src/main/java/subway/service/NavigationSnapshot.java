@@ -0,0 +1,66 @@
+package subway.service;
+
+import java.util.function.Supplier;
+import subway.domain.Navigation;
+import subway.domain.graph.KShortestPaths;
+import subway.domain.graph.ReachableStations;
+import subway.domain.graph.StationGraph;
+import subway.domain.graph.TransferAwareRouting;
+
+public class NavigationSnapshot {
+
+    private final long version;
+    private final Navigation navigation;
+    private final Supplier<StationGraph> graphLoader;
+    private StationGraph graph;
+    private KShortestPaths kShortestPaths;
+    private TransferAwareRouting transferAwareRouting;
+    private ReachableStations reachableStations;
+
+    public NavigationSnapshot(final long version, final Navigation navigation, final Supplier<StationGraph> graphLoader) {
+        this.version = version;
+        this.navigation = navigation;
+        this.graphLoader = graphLoader;
+    }
+
+    public boolean isVersionOf(final long version) {
+        return this.version == version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Navigation getNavigation() {
+        return navigation;
+    }
+
+    public synchronized StationGraph getGraph() {
+        if (graph == null) {
+            graph = graphLoader.get();
+        }
+        return graph;
+    }
+
+    // 대안 경로, 환승 경로, 도달 가능한 역 조회는 드물기 때문에 처음 요청될 때 만든다.
+    public synchronized KShortestPaths getKShortestPaths() {
+        if (kShortestPaths == null) {
+            kShortestPaths = new KShortestPaths(getGraph());
+        }
+        return kShortestPaths;
+    }
+
+    public synchronized TransferAwareRouting getTransferAwareRouting() {
+        if (transferAwareRouting == null) {
+            transferAwareRouting = new TransferAwareRouting(getGraph());
+        }
+        return transferAwareRouting;
+    }
+
+    public synchronized ReachableStations getReachableStations() {
+        if (reachableStations == null) {
+            reachableStations = new ReachableStations(getGraph());
+        }
+        return reachableStations;
+    }
+}
@@ -1,45 +1,260 @@
 package subway.service;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.FareCalculator;
-import subway.domain.Line;
+import subway.domain.Journey;
 import subway.domain.Navigation;
-import subway.domain.JgraphtNavigation;
-import subway.domain.Sections;
+import subway.domain.ReachableStation;
+import subway.domain.Route;
+import subway.domain.RouteCache;
 import subway.domain.Station;
-import subway.domain.SubwayFareCalculator;
+import subway.domain.graph.ConnectionScan;
+import subway.domain.graph.StationGraph;
+import subway.domain.graph.TransferAwareRouting;
+import subway.service.dto.AlternativePathDto;
+import subway.service.dto.EarliestArrivalDto;
 import subway.service.dto.PathDto;
+import subway.service.dto.PathMatrixDto;
+import subway.dto.response.EarliestArrivalResponse;
+import subway.dto.response.PathMatrixResponse;
 import subway.dto.response.PathResponse;
-import subway.repository.SubwayRepository;
+import subway.dto.response.ReachableStationResponse;
 
 @Service
 public class PathService {
 
-    private final SubwayRepository subwayRepository;
+    private final NavigationProvider navigationProvider;
+    private final NavigationProperties navigationProperties;
+    private final TimetableProvider timetableProvider;
+    private final FareCalculator fareCalculator;
+    private final MeterRegistry meterRegistry;
+    private final RouteCache routeCache;
+    private final ExecutorService matrixExecutor;
 
-    public PathService(final SubwayRepository subwayRepository) {
-        this.subwayRepository = subwayRepository;
+    public PathService(
+            final NavigationProvider navigationProvider,
+            final NavigationProperties navigationProperties,
+            final TimetableProvider timetableProvider,
+            final FareCalculator fareCalculator,
+            final MeterRegistry meterRegistry
+    ) {
+        this.navigationProvider = navigationProvider;
+        this.navigationProperties = navigationProperties;
+        this.timetableProvider = timetableProvider;
+        this.fareCalculator = fareCalculator;
+        this.meterRegistry = meterRegistry;
+        this.routeCache = new RouteCache(navigationProperties.getRouteCacheMaxBytes());
+        TransferAwareRouting.validateMaxTransfers(navigationProperties.getMaxTransfers());
+        this.matrixExecutor = createMatrixExecutor(navigationProperties.getMatrixParallelism());
+        registerMetrics(meterRegistry);
+    }
+
+    private void registerMetrics(final MeterRegistry meterRegistry) {
+        Gauge.builder("subway.cache.size", routeCache, RouteCache::size)
+                .tag("cache", "route")
+                .register(meterRegistry);
+        Gauge.builder("subway.cache.bytes", routeCache, RouteCache::getBytes)
+                .tag("cache", "route")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.hits", routeCache, RouteCache::getHitCount)
+                .tag("cache", "route")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.misses", routeCache, RouteCache::getMissCount)
+                .tag("cache", "route")
+                .register(meterRegistry);
+        FunctionCounter.builder("subway.cache.evictions", routeCache, RouteCache::getEvictionCount)
+                .tag("cache", "route")
+                .register(meterRegistry);
+    }
+
+    // 거리 행렬의 행은 공용 ForkJoin 풀 대신 크기가 정해진 전용 스레드에서 구해,
+    // 큰 요청 하나가 거리 행렬 엔진의 재생성이나 대안 경로 탐색이 쓸 코어를 모두 차지하지 않게 한다.
+    private static ExecutorService createMatrixExecutor(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("거리 행렬을 구할 스레드 수는 1 이상이어야 합니다.");
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "path-matrix-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    @Transactional(readOnly = true)
     public PathResponse findPath(final PathDto pathDto) {
         final Station source = new Station(pathDto.getSourceStation());
         final Station target = new Station(pathDto.getTargetStation());
 
-        final List<Line> lines = subwayRepository.findSubway().getLines();
-        final List<Sections> sections = lines.stream()
-                .map(Line::getSections)
-                .collect(Collectors.toList());
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+        final Route route = routeCache.get(snapshot.getVersion(), source, target,
+                () -> search("path", () -> snapshot.getNavigation().getRoute(source, target)));
+
+        return PathResponse.from(fareCalculator.calculate(route.getDistance()), route);
+    }
+
+    public List<PathResponse> findAlternativePaths(final AlternativePathDto alternativePathDto) {
+        final Station source = new Station(alternativePathDto.getSourceStation());
+        final Station target = new Station(alternativePathDto.getTargetStation());
+
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+        final List<Route> routes = search("alternatives", () -> snapshot.getKShortestPaths().find(
+                source, target, alternativePathDto.getCount(), navigationProperties.getAlternativeMaxRatio()));
+
+        return routes.stream()
+                .map(route -> PathResponse.from(fareCalculator.calculate(route.getDistance()), route))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<PathResponse> findTransferAwarePaths(final PathDto pathDto) {
+        final Station source = new Station(pathDto.getSourceStation());
+        final Station target = new Station(pathDto.getTargetStation());
+
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+        final List<Route> routes = search("transfers", () -> snapshot.getTransferAwareRouting().find(
+                source, target, navigationProperties.getTransferPenalty(), navigationProperties.getMaxTransfers()));
+
+        return routes.stream()
+                .map(route -> PathResponse.from(fareCalculator.calculate(route.getDistance()), route))
+                .collect(Collectors.toUnmodifiableList());
+    }
 
-        final Navigation navigation = JgraphtNavigation.from(sections);
-        final List<Station> stations = navigation.getShortestPath(source, target);
+    // 다른 조회는 메모리의 스냅샷으로 답하므로 트랜잭션을 열지 않는다.
+    // 시간표는 처음 필요할 때 출발편과 그 개수를 따로 읽으므로, 두 조회가 같은 데이터를 보도록 트랜잭션 안에서 읽는다.
+    @Transactional(readOnly = true)
+    public EarliestArrivalResponse findEarliestArrival(final EarliestArrivalDto earliestArrivalDto) {
+        final Station source = new Station(earliestArrivalDto.getSourceStation());
+        final Station target = new Station(earliestArrivalDto.getTargetStation());
 
-        final int distance = navigation.getDistance(source, target);
-        final FareCalculator fareCalculator = new SubwayFareCalculator();
+        // 노선에 없는 역과, 노선에는 있지만 출발편이 없는 역을 다른 예외로 알린다.
+        final StationGraph graph = navigationProvider.getSnapshot().getGraph();
+        graph.sourceIdOf(source);
+        graph.targetIdOf(target);
+        final ConnectionScan connectionScan = timetableProvider.getConnectionScan();
+        final Journey journey = search("earliest", () -> connectionScan.findEarliestArrival(
+                source, target, earliestArrivalDto.getDepartureTime().toSecondOfDay()));
+
+        return EarliestArrivalResponse.from(fareCalculator.calculate(journey.getRoute().getDistance()), journey);
+    }
+
+    // 역은 응답을 쓰는 동안 하나씩 확정되므로 전체 결과를 메모리에 모으지 않는다.
+    public Iterator<ReachableStationResponse> findReachableStations(final String sourceStation, final int maxDistance) {
+        final Iterator<ReachableStation> reachableStations = navigationProvider.getSnapshot()
+                .getReachableStations()
+                .search(new Station(sourceStation), maxDistance);
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return reachableStations.hasNext();
+            }
+
+            @Override
+            public ReachableStationResponse next() {
+                final ReachableStation reachableStation = reachableStations.next();
+                return ReachableStationResponse.from(
+                        fareCalculator.calculate(reachableStation.getDistance()), reachableStation);
+            }
+        };
+    }
+
+    // 같은 출발역끼리 묶어 한 번의 탐색으로 모든 도착역의 경로를 구하고, 응답은 요청 순서를 따른다.
+    public List<PathResponse> findPaths(final List<PathDto> pathDtos) {
+        final Map<String, List<Integer>> indexesBySource = new LinkedHashMap<>();
+        for (int index = 0; index < pathDtos.size(); index++) {
+            indexesBySource.computeIfAbsent(pathDtos.get(index).getSourceStation(), ignored -> new ArrayList<>())
+                    .add(index);
+        }
+
+        final Navigation navigation = navigationProvider.getSnapshot().getNavigation();
+        final PathResponse[] pathResponses = new PathResponse[pathDtos.size()];
+        for (Map.Entry<String, List<Integer>> entry : indexesBySource.entrySet()) {
+            final List<Integer> indexes = entry.getValue();
+            final List<Station> targets = indexes.stream()
+                    .map(index -> new Station(pathDtos.get(index).getTargetStation()))
+                    .collect(Collectors.toUnmodifiableList());
+            final Station source = new Station(entry.getKey());
+            final List<Route> routes = search("batch", () -> navigation.getRoutes(source, targets));
+            for (int i = 0; i < indexes.size(); i++) {
+                final Route route = routes.get(i);
+                pathResponses[indexes.get(i)] = PathResponse.from(fareCalculator.calculate(route.getDistance()), route);
+            }
+        }
+        return List.of(pathResponses);
+    }
+
+    public PathMatrixResponse findPathMatrix(final PathMatrixDto pathMatrixDto) {
+        final List<String> sourceStations = pathMatrixDto.getSourceStations();
+        final List<String> targetStations = pathMatrixDto.getTargetStations();
+        final List<Station> targets = targetStations.stream()
+                .map(Station::new)
+                .collect(Collectors.toUnmodifiableList());
+
+        final Navigation navigation = navigationProvider.getSnapshot().getNavigation();
+        final int columnCount = targets.size();
+        final int[] distances = new int[sourceStations.size() * columnCount];
+        final int[] fares = new int[distances.length];
+        final CompletableFuture<?>[] rows = IntStream.range(0, sourceStations.size())
+                .mapToObj(row -> CompletableFuture.runAsync(() -> {
+                    final int[] rowDistances = search("matrix",
+                            () -> navigation.getDistances(new Station(sourceStations.get(row)), targets));
+                    for (int column = 0; column < columnCount; column++) {
+                        final int distance = rowDistances[column];
+                        distances[row * columnCount + column] = distance;
+                        fares[row * columnCount + column] = distance == Navigation.UNREACHABLE
+                                ? Navigation.UNREACHABLE : fareCalculator.calculate(distance);
+                    }
+                }, matrixExecutor))
+                .toArray(CompletableFuture[]::new);
+        join(rows);
+
+        return new PathMatrixResponse(sourceStations, targetStations, distances, fares);
+    }
+
+    // 행을 구하다 난 예외는 감싸지 않고 그대로 던져, 없는 역은 다른 조회와 같은 응답을 받게 한다.
+    private static void join(final CompletableFuture<?>[] rows) {
+        try {
+            CompletableFuture.allOf(rows).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 캐시에서 꺼낸 경로는 재지 않으므로, 이 시간은 실제로 그래프를 탐색한 시간이다.
+    private <T> T search(final String query, final Supplier<T> search) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return search.get();
+        } finally {
+            sample.stop(Timer.builder("subway.path.search")
+                    .description("경로 탐색 엔진이 경로를 찾는 데 걸린 시간")
+                    .tag("query", query)
+                    .register(meterRegistry));
+        }
+    }
 
-        return PathResponse.from(fareCalculator.calculate(distance), distance, stations);
+    public RouteCache getRouteCache() {
+        return routeCache;
     }
 }
@@ -0,0 +1,43 @@
+package subway.service;
+
+import java.util.function.Function;
+import subway.domain.Navigation;
+
+public class SimpleNavigationFactory implements NavigationFactory {
+
+    private final NavigationEngine engine;
+    private final Function<NavigationContext, Navigation> factory;
+    private final boolean builtInBackground;
+
+    public SimpleNavigationFactory(
+            final NavigationEngine engine,
+            final Function<NavigationContext, Navigation> factory
+    ) {
+        this(engine, factory, false);
+    }
+
+    public SimpleNavigationFactory(
+            final NavigationEngine engine,
+            final Function<NavigationContext, Navigation> factory,
+            final boolean builtInBackground
+    ) {
+        this.engine = engine;
+        this.factory = factory;
+        this.builtInBackground = builtInBackground;
+    }
+
+    @Override
+    public NavigationEngine getEngine() {
+        return engine;
+    }
+
+    @Override
+    public Navigation create(final NavigationContext context) {
+        return factory.apply(context);
+    }
+
+    @Override
+    public boolean isBuiltInBackground() {
+        return builtInBackground;
+    }
+}
@@ -1,27 +1,48 @@
 package subway.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.SectionChange;
 import subway.domain.Station;
 import subway.service.dto.SectionDto;
 import subway.service.dto.StationDto;
 import subway.dto.response.StationResponse;
 import subway.repository.LineRepository;
 import subway.repository.StationRepository;
+import subway.repository.TimetableRepository;
+import subway.service.event.SubwayChangedEvent;
 
 @Service
 public class StationService {
 
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
+    private final TimetableRepository timetableRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
-    public StationService(final LineRepository lineRepository, final StationRepository stationRepository) {
+    public StationService(
+            final LineRepository lineRepository,
+            final StationRepository stationRepository,
+            final TimetableRepository timetableRepository,
+            final ApplicationEventPublisher eventPublisher,
+            final MeterRegistry meterRegistry
+    ) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
+        this.timetableRepository = timetableRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
     }
 
     @Transactional
@@ -31,10 +52,13 @@ public class StationService {
         final Station source = new Station(sectionDto.getSourceStation());
         final Station target = new Station(sectionDto.getTargetStation());
 
-        line.registerSection(source, target, sectionDto.getDistance());
+        recordSectionsMutation("register", () -> line.registerSection(source, target, sectionDto.getDistance()));
 
         updateLine(source, target);
         final Line registeredLine = lineRepository.updateLine(line);
+        updateTimetable(sectionDto.getLineId(), line.sectionChanges());
+        eventPublisher.publishEvent(
+                new SubwayChangedEvent(sectionDto.getLineId(), line.getName(), line.sectionChanges()));
         return StationResponse.of(registeredLine, registeredLine.stations());
     }
 
@@ -50,7 +74,50 @@ public class StationService {
     public void delete(final StationDto stationDto) {
         final Line line = lineRepository.findLineById(stationDto.getLineId());
 
-        line.deleteStation(new Station(stationDto.getName()));
+        recordSectionsMutation("delete", () -> line.deleteStation(new Station(stationDto.getName())));
         lineRepository.updateLine(line);
+        updateTimetable(stationDto.getLineId(), line.sectionChanges());
+        eventPublisher.publishEvent(
+                new SubwayChangedEvent(stationDto.getLineId(), line.getName(), line.sectionChanges()));
+    }
+
+    // 시간표는 정확히 같은 구간의 출발편만 읽으므로, 나뉜 구간의 출발편은 함께 나누고
+    // 합쳐지거나 없어진 구간의 출발편은 지운다.
+    private void updateTimetable(final Long lineId, final List<SectionChange> changes) {
+        final List<Section> addedSections = changes.stream()
+                .filter(SectionChange::isAdded)
+                .map(SectionChange::getSection)
+                .collect(Collectors.toUnmodifiableList());
+        changes.stream()
+                .filter(SectionChange::isRemoved)
+                .map(SectionChange::getSection)
+                .forEach(removed -> findFirstPart(removed, addedSections).ifPresentOrElse(
+                        firstPart -> timetableRepository.splitDepartures(lineId, removed, firstPart),
+                        () -> timetableRepository.deleteDepartures(lineId, removed)));
+    }
+
+    // 없어진 구간의 출발역에서 가운데 역까지, 가운데 역에서 도착역까지 새 구간이 있으면 나뉜 구간이다.
+    private Optional<Section> findFirstPart(final Section removed, final List<Section> addedSections) {
+        return addedSections.stream()
+                .filter(first -> first.isSource(removed.getSource()))
+                .filter(first -> addedSections.stream().anyMatch(second -> second.isSource(first.getTarget())
+                        && second.isTarget(removed.getTarget())))
+                .findAny();
+    }
+
+    // 구간 규칙을 어겨 거절된 변경도 outcome=failure로 함께 센다.
+    private void recordSectionsMutation(final String operation, final Runnable mutation) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            mutation.run();
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("subway.sections.mutation")
+                    .description("노선의 구간을 바꾸는 데 걸린 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 }
@@ -0,0 +1,52 @@
+package subway.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.domain.graph.ConnectionScan;
+import subway.repository.TimetableRepository;
+import subway.service.event.SubwayChangedEvent;
+import subway.service.event.TimetableChangedEvent;
+
+// 시간표는 경로 탐색 그래프와 따로 버전을 매겨, 출발편이 추가되어도 그래프를 다시 만들지 않는다.
+@Component
+public class TimetableProvider {
+
+    private final TimetableRepository timetableRepository;
+    private final AtomicLong version = new AtomicLong();
+    private volatile long builtVersion = -1;
+    private volatile ConnectionScan connectionScan;
+
+    public TimetableProvider(final TimetableRepository timetableRepository) {
+        this.timetableRepository = timetableRepository;
+    }
+
+    public ConnectionScan getConnectionScan() {
+        final ConnectionScan current = connectionScan;
+        if (current != null && builtVersion == version.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized ConnectionScan rebuild() {
+        final long targetVersion = version.get();
+        if (connectionScan != null && builtVersion == targetVersion) {
+            return connectionScan;
+        }
+        connectionScan = timetableRepository.readConnectionScan();
+        builtVersion = targetVersion;
+        return connectionScan;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(final TimetableChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    // 구간이 지워지면 그 구간의 출발편도 쓸 수 없게 되므로 함께 다시 읽는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(final SubwayChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,61 @@
+package subway.service;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.domain.Line;
+import subway.domain.Station;
+import subway.repository.LineRepository;
+import subway.repository.TimetableRepository;
+import subway.service.dto.DepartureDto;
+import subway.service.event.TimetableChangedEvent;
+
+@Service
+public class TimetableService {
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_DAY = 24 * 60 * SECONDS_PER_MINUTE;
+
+    private final LineRepository lineRepository;
+    private final TimetableRepository timetableRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TimetableService(
+            final LineRepository lineRepository,
+            final TimetableRepository timetableRepository,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        this.lineRepository = lineRepository;
+        this.timetableRepository = timetableRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void register(final DepartureDto departureDto) {
+        final Line line = lineRepository.findLineById(departureDto.getLineId());
+        final Station source = new Station(departureDto.getSourceStation());
+        final Station target = new Station(departureDto.getTargetStation());
+        if (!line.hasSectionBetween(source, target)) {
+            throw new IllegalArgumentException("노선에 두 역을 잇는 구간이 존재하지 않습니다.");
+        }
+
+        final int travelTime = departureDto.getTravelMinutes() * SECONDS_PER_MINUTE;
+        final List<Integer> departureTimes = departureDto.getDepartureTimes().stream()
+                .map(LocalTime::toSecondOfDay)
+                .collect(Collectors.toList());
+        validateSameDay(departureTimes, travelTime);
+
+        timetableRepository.registerDepartures(departureDto.getLineId(), source, target, departureTimes, travelTime);
+        eventPublisher.publishEvent(new TimetableChangedEvent(departureDto.getLineId()));
+    }
+
+    private void validateSameDay(final List<Integer> departureTimes, final int travelTime) {
+        final boolean overnight = departureTimes.stream()
+                .anyMatch(departureTime -> departureTime + travelTime >= SECONDS_PER_DAY);
+        if (overnight) {
+            throw new IllegalArgumentException("도착 시각이 자정을 넘을 수 없습니다.");
+        }
+    }
+}
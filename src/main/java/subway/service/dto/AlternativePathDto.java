@@ -0,0 +1,26 @@
+package subway.service.dto;
+
+public class AlternativePathDto {
+
+    private final String sourceStation;
+    private final String targetStation;
+    private final int count;
+
+    public AlternativePathDto(final String sourceStation, final String targetStation, final int count) {
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.count = count;
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
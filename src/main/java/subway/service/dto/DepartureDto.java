@@ -0,0 +1,47 @@
+package subway.service.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public class DepartureDto {
+
+    private final Long lineId;
+    private final String sourceStation;
+    private final String targetStation;
+    private final List<LocalTime> departureTimes;
+    private final int travelMinutes;
+
+    public DepartureDto(
+            final Long lineId,
+            final String sourceStation,
+            final String targetStation,
+            final List<LocalTime> departureTimes,
+            final int travelMinutes
+    ) {
+        this.lineId = lineId;
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.departureTimes = departureTimes;
+        this.travelMinutes = travelMinutes;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public List<LocalTime> getDepartureTimes() {
+        return departureTimes;
+    }
+
+    public int getTravelMinutes() {
+        return travelMinutes;
+    }
+}
@@ -0,0 +1,28 @@
+package subway.service.dto;
+
+import java.time.LocalTime;
+
+public class EarliestArrivalDto {
+
+    private final String sourceStation;
+    private final String targetStation;
+    private final LocalTime departureTime;
+
+    public EarliestArrivalDto(final String sourceStation, final String targetStation, final LocalTime departureTime) {
+        this.sourceStation = sourceStation;
+        this.targetStation = targetStation;
+        this.departureTime = departureTime;
+    }
+
+    public String getSourceStation() {
+        return sourceStation;
+    }
+
+    public String getTargetStation() {
+        return targetStation;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+}
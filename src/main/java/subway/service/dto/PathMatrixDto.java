@@ -0,0 +1,22 @@
+package subway.service.dto;
+
+import java.util.List;
+
+public class PathMatrixDto {
+
+    private final List<String> sourceStations;
+    private final List<String> targetStations;
+
+    public PathMatrixDto(final List<String> sourceStations, final List<String> targetStations) {
+        this.sourceStations = sourceStations;
+        this.targetStations = targetStations;
+    }
+
+    public List<String> getSourceStations() {
+        return sourceStations;
+    }
+
+    public List<String> getTargetStations() {
+        return targetStations;
+    }
+}
@@ -0,0 +1,38 @@
+package subway.service.event;
+
+import java.util.List;
+import subway.domain.SectionChange;
+
+public class SubwayChangedEvent {
+
+    private final Long lineId;
+    private final String lineName;
+    private final List<SectionChange> changes;
+
+    public SubwayChangedEvent(final Long lineId) {
+        this(lineId, null, List.of());
+    }
+
+    public SubwayChangedEvent(final Long lineId, final String lineName, final List<SectionChange> changes) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.changes = List.copyOf(changes);
+    }
+
+    // 구간 변경 내역이 없으면 경로 탐색 그래프를 처음부터 다시 만들어야 한다.
+    public boolean hasSectionChanges() {
+        return lineName != null && !changes.isEmpty();
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public List<SectionChange> getChanges() {
+        return changes;
+    }
+}
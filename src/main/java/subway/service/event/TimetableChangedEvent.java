@@ -0,0 +1,14 @@
+package subway.service.event;
+
+public class TimetableChangedEvent {
+
+    private final Long lineId;
+
+    public TimetableChangedEvent(final Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
@@ -25,3 +25,17 @@ create table if not exists SECTION
     foreign key(source_station_id) references station(id) on delete cascade,
     foreign key(target_station_id) references station(id) on delete cascade
 );
+
+create table if not exists DEPARTURE
+(
+    id bigint auto_increment not null,
+    line_id bigint not null,
+    source_station_id bigint not null,
+    target_station_id bigint not null,
+    departure_time int not null,
+    arrival_time int not null,
+    primary key(id),
+    foreign key(line_id) references line(id) on delete cascade,
+    foreign key(source_station_id) references station(id) on delete cascade,
+    foreign key(target_station_id) references station(id) on delete cascade
+);
@@ -0,0 +1,102 @@
+package subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.dao.entity.DepartureEntity;
+import subway.dao.entity.StationEntity;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@JdbcTest
+class DepartureDaoTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DepartureDao departureDao;
+    private SectionDao sectionDao;
+    private StationDao stationDao;
+    private LineDao lineDao;
+
+    @BeforeEach
+    void setUp() {
+        departureDao = new DepartureDao(jdbcTemplate);
+        sectionDao = new SectionDao(jdbcTemplate);
+        stationDao = new StationDao(jdbcTemplate);
+        lineDao = new LineDao(jdbcTemplate);
+        jdbcTemplate.execute("DELETE FROM departure");
+        jdbcTemplate.execute("DELETE FROM section");
+    }
+
+    @Test
+    void 출발편을_여러_개_등록할_수_있다() {
+        // given
+        final Long lineId = lineDao.insert("8호선", "분홍색");
+        final StationEntity 잠실역 = stationDao.insert("잠실역");
+        final StationEntity 석촌역 = stationDao.insert("석촌역");
+
+        // when
+        departureDao.insertAll(List.of(
+                new DepartureEntity(lineId, 잠실역.getId(), 석촌역.getId(), 28800, 28980),
+                new DepartureEntity(lineId, 석촌역.getId(), 잠실역.getId(), 29400, 29580)));
+
+        // then
+        assertThat(departureDao.findBySection(lineId, 잠실역.getId(), 석촌역.getId())).hasSize(2);
+    }
+
+    @Test
+    void 구간의_출발편을_방향과_관계없이_지운다() {
+        // given
+        final Long lineId = lineDao.insert("8호선", "분홍색");
+        final StationEntity 잠실역 = stationDao.insert("잠실역");
+        final StationEntity 석촌역 = stationDao.insert("석촌역");
+        final StationEntity 송파역 = stationDao.insert("송파역");
+        departureDao.insertAll(List.of(
+                new DepartureEntity(lineId, 잠실역.getId(), 석촌역.getId(), 28800, 28980),
+                new DepartureEntity(lineId, 석촌역.getId(), 잠실역.getId(), 29400, 29580),
+                new DepartureEntity(lineId, 석촌역.getId(), 송파역.getId(), 28000, 28180)));
+
+        // when
+        final int deleted = departureDao.deleteBySection(lineId, 석촌역.getId(), 잠실역.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(deleted).isEqualTo(2),
+                () -> assertThat(departureDao.count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 구간과_조인한_출발편을_출발_시각순으로_읽는다() {
+        // given
+        final Long lineId = lineDao.insert("8호선", "분홍색");
+        final StationEntity 잠실역 = stationDao.insert("잠실역");
+        final StationEntity 석촌역 = stationDao.insert("석촌역");
+        final StationEntity 송파역 = stationDao.insert("송파역");
+        sectionDao.insert(lineId, 잠실역.getId(), 석촌역.getId(), 10);
+        departureDao.insertAll(List.of(
+                new DepartureEntity(lineId, 석촌역.getId(), 잠실역.getId(), 29400, 29580),
+                new DepartureEntity(lineId, 잠실역.getId(), 석촌역.getId(), 28800, 28980),
+                new DepartureEntity(lineId, 석촌역.getId(), 송파역.getId(), 28000, 28180)));
+
+        // when
+        final List<String> rows = new ArrayList<>();
+        departureDao.streamAllWithNames((lineName, source, target, departureTime, arrivalTime, distance) ->
+                rows.add(source + "-" + target + ":" + departureTime + "-" + arrivalTime + ":" + distance));
+
+        // then
+        assertThat(rows).containsExactly(
+                "잠실역-석촌역:28800-28980:10",
+                "석촌역-잠실역:29400-29580:10");
+    }
+}
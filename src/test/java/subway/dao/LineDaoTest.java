@@ -81,4 +81,18 @@ class LineDaoTest {
         // then
         assertThat(lineEntities).hasSize(3);
     }
+
+    @Test
+    void 여러_노선을_한_번에_저장한다() {
+        // when
+        lineDao.insertAll(List.of(
+                new LineEntity(null, "8호선", "분홍색"),
+                new LineEntity(null, "2호선", "초록색")));
+
+        // then
+        assertAll(
+                () -> assertThat(lineDao.findAll()).hasSize(2),
+                () -> assertThat(lineDao.findByName("2호선")).isPresent()
+        );
+    }
 }
@@ -3,6 +3,7 @@ package subway.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,8 @@ import subway.dao.entity.LineEntity;
 import subway.dao.entity.SectionEntity;
 import subway.dao.entity.StationEntity;
 import subway.domain.Station;
+import subway.fixture.SyntheticNetwork;
+import subway.fixture.SyntheticNetwork.Shape;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -105,4 +108,53 @@ class SectionDaoTest {
         assertThat(sectionEntities).hasSize(2);
     }
 
+    @Test
+    void 노선과_역_이름을_조인한_구간을_한_행씩_읽는다() {
+        // given
+        final Long lineId = lineDao.insert("8호선", "분홍색");
+        final StationEntity 잠실역 = stationDao.insert("잠실역");
+        final StationEntity 석촌역 = stationDao.insert("석촌역");
+        sectionDao.insert(lineId, 잠실역.getId(), 석촌역.getId(), 10);
+
+        // when
+        final List<String> rows = new ArrayList<>();
+        sectionDao.streamAllWithNames((lineName, sourceStationName, targetStationName, distance) ->
+                rows.add(lineName + ":" + sourceStationName + "-" + targetStationName + ":" + distance));
+
+        // then
+        assertThat(rows).containsExactly("8호선:잠실역-석촌역:10");
+    }
+
+    @Test
+    void 구간이_바뀌면_지문이_달라진다() {
+        // given
+        final Long lineId = lineDao.insert("8호선", "분홍색");
+        final StationEntity 잠실역 = stationDao.insert("잠실역");
+        final StationEntity 석촌역 = stationDao.insert("석촌역");
+        final SectionEntity section = sectionDao.insert(lineId, 잠실역.getId(), 석촌역.getId(), 10);
+        final long fingerprint = sectionDao.fingerprint();
+
+        // when
+        jdbcTemplate.update("DELETE FROM section WHERE id = ?", section.getId());
+        sectionDao.insert(lineId, 잠실역.getId(), 석촌역.getId(), 10);
+
+        // then
+        assertThat(sectionDao.fingerprint()).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void 합성_노선망의_역과_노선과_구간을_한_번에_저장한다() {
+        // given
+        final SyntheticNetwork network = SyntheticNetwork.generate(Shape.RANDOM_TRANSFER, 20, 501, 1L);
+
+        // when
+        network.load(stationDao, lineDao, sectionDao);
+
+        // then
+        assertAll(
+                () -> assertThat(sectionDao.findAll()).hasSize(10_000),
+                () -> assertThat(stationDao.findAll()).hasSize(network.stationCount()),
+                () -> assertThat(lineDao.findAll()).hasSize(20)
+        );
+    }
 }
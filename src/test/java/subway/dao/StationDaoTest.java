@@ -3,6 +3,7 @@ package subway.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -55,4 +56,15 @@ class StationDaoTest {
         assertThat(stationEntity).isPresent();
     }
 
+    @Test
+    void 여러_역을_한_번에_저장한다() {
+        // when
+        stationDao.insertAll(List.of("잠실역", "석촌역", "송파역"));
+
+        // then
+        assertAll(
+                () -> assertThat(stationDao.findAll()).hasSize(3),
+                () -> assertThat(stationDao.findByName("석촌역")).isPresent()
+        );
+    }
 }
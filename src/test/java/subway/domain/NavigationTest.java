@@ -3,12 +3,13 @@ package subway.domain;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
-import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
+import subway.fixture.StationGraphs;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -20,9 +21,7 @@ class NavigationTest {
         final Section firstSection = new Section("잠실역", "석촌역", 2);
         final Section secondSection = new Section("석촌역", "송파역", 2);
         final Section thirdSection = new Section("송파역", "가락시장역", 10);
-        final Navigation navigation = JgraphtNavigation.from(List.of(
-                new Sections(List.of(firstSection, secondSection, thirdSection)))
-        );
+        final Navigation navigation = navigationOf(firstSection, secondSection, thirdSection);
 
         // when
         final List<Station> shortestPath = navigation.getShortestPath(new Station("잠실역"), new Station("송파역"));
@@ -34,7 +33,7 @@ class NavigationTest {
     @Test
     void 출발역이_노선에_존재하지_않을_경우_예외가_발생한다() {
         // given
-        final Navigation navigation = JgraphtNavigation.from(Collections.emptyList());
+        final Navigation navigation = navigationOf();
 
         // expect
         assertThatThrownBy(() -> navigation.getShortestPath(new Station("잠실역"), new Station("석촌역")))
@@ -46,9 +45,7 @@ class NavigationTest {
     void 도착역이_노선에서_존재하지_않는_경우_예외가_발생한다() {
         // given
         final Section sections = new Section("잠실역", "석촌역", 2);
-        final Navigation navigation = JgraphtNavigation.from(List.of(
-                new Sections(List.of(sections)))
-        );
+        final Navigation navigation = navigationOf(sections);
 
         // expect
         assertThatThrownBy(() -> navigation.getShortestPath(new Station("잠실역"), new Station("터틀역")))
@@ -62,9 +59,7 @@ class NavigationTest {
         final Section firstSection = new Section("잠실역", "석촌역", 2);
         final Section secondSection = new Section("석촌역", "송파역", 2);
         final Section thirdSection = new Section("송파역", "가락시장역", 10);
-        final Navigation navigation = JgraphtNavigation.from(List.of(
-                new Sections(List.of(firstSection, secondSection, thirdSection)))
-        );
+        final Navigation navigation = navigationOf(firstSection, secondSection, thirdSection);
 
         // when
         final int distance = navigation.getDistance(new Station("잠실역"), new Station("송파역"));
@@ -72,4 +67,31 @@ class NavigationTest {
         // then
         assertThat(distance).isEqualTo(4);
     }
+
+    @Test
+    void 노선별_구간과_환승역을_함께_조회한다() {
+        // given
+        final Line eightLine = new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2),
+                new Section("석촌역", "송파역", 2)));
+        final Line nineLine = new Line("9호선", "금색", List.of(
+                new Section("송파역", "한성백제역", 3)));
+        final Subway subway = new Subway(List.of(eightLine, nineLine));
+        final Navigation navigation = JgraphtNavigation.from(StationGraphs.from(subway));
+
+        // when
+        final Route route = navigation.getRoute(new Station("잠실역"), new Station("한성백제역"));
+
+        // then
+        assertAll(
+                () -> assertThat(route.getDistance()).isEqualTo(7),
+                () -> assertThat(route.getLegs()).extracting(Leg::getLineName).containsExactly("8호선", "9호선"),
+                () -> assertThat(route.getTransferStations()).containsExactly(new Station("송파역"))
+        );
+    }
+
+    private static Navigation navigationOf(final Section... sections) {
+        final Line line = new Line("8호선", "분홍색", List.of(sections));
+        return JgraphtNavigation.from(StationGraphs.from(new Subway(List.of(line))));
+    }
 }
@@ -0,0 +1,93 @@
+package subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RouteCacheTest {
+
+    private final Station 잠실역 = new Station("잠실역");
+    private final Station 석촌역 = new Station("석촌역");
+    private final Station 송파역 = new Station("송파역");
+    private final Route route = Route.of(List.of(잠실역, 석촌역, 송파역), List.of("8호선", "8호선"), List.of(2, 3));
+
+    @Test
+    void 반대_방향_조회는_저장된_경로를_뒤집어_돌려준다() {
+        // given
+        final RouteCache cache = new RouteCache(1024 * 1024);
+        final AtomicInteger loadCount = new AtomicInteger();
+        cache.get(1L, 잠실역, 송파역, () -> {
+            loadCount.incrementAndGet();
+            return route;
+        });
+
+        // when
+        final Route reversed = cache.get(1L, 송파역, 잠실역, () -> {
+            loadCount.incrementAndGet();
+            return route.reverse();
+        });
+
+        // then
+        assertAll(
+                () -> assertThat(loadCount).hasValue(1),
+                () -> assertThat(reversed.getStations()).containsExactly(송파역, 석촌역, 잠실역),
+                () -> assertThat(reversed.getDistance()).isEqualTo(5),
+                () -> assertThat(cache.getHitRatio()).isEqualTo(0.5)
+        );
+    }
+
+    @Test
+    void 버전이_올라가면_이전_버전의_경로를_비운다() {
+        // given
+        final RouteCache cache = new RouteCache(1024 * 1024);
+        cache.get(1L, 잠실역, 송파역, () -> route);
+
+        // when
+        cache.get(2L, 잠실역, 석촌역, () -> Route.of(List.of(잠실역, 석촌역), List.of("8호선"), List.of(2)));
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(cache.getMissCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_사용하지_않은_경로를_내보낸다() {
+        // given
+        final RouteCache probe = new RouteCache(1024 * 1024);
+        probe.get(1L, 잠실역, 송파역, () -> route);
+        final RouteCache cache = new RouteCache(probe.getBytes() * 2);
+        cache.get(1L, 잠실역, 송파역, () -> route);
+        cache.get(1L, 석촌역, 송파역, () -> route);
+        cache.get(1L, 잠실역, 송파역, () -> route);
+
+        // when
+        cache.get(1L, 잠실역, 석촌역, () -> route);
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.getBytes()).isEqualTo(probe.getBytes() * 2),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(cache.getHitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 캐시_용량이_음수이면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> new RouteCache(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("캐시 용량은 0 이상이어야 합니다.");
+    }
+}
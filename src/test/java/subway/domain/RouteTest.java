@@ -0,0 +1,81 @@
+package subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RouteTest {
+
+    @Test
+    void 같은_노선의_연속된_구간은_하나의_구간으로_묶인다() {
+        // given
+        final List<Station> stations = List.of(
+                new Station("잠실역"), new Station("석촌역"), new Station("송파역"), new Station("가락시장역"));
+
+        // when
+        final Route route = Route.of(stations, List.of("8호선", "8호선", "3호선"), List.of(2, 3, 4));
+
+        // then
+        final List<Leg> legs = route.getLegs();
+        assertAll(
+                () -> assertThat(route.getDistance()).isEqualTo(9),
+                () -> assertThat(legs).hasSize(2),
+                () -> assertThat(legs.get(0).getLineName()).isEqualTo("8호선"),
+                () -> assertThat(legs.get(0).getStations())
+                        .containsExactly(new Station("잠실역"), new Station("석촌역"), new Station("송파역")),
+                () -> assertThat(legs.get(0).getDistance()).isEqualTo(5),
+                () -> assertThat(legs.get(1).getLineName()).isEqualTo("3호선"),
+                () -> assertThat(legs.get(1).getStations()).containsExactly(new Station("송파역"), new Station("가락시장역"))
+        );
+    }
+
+    @Test
+    void 노선이_바뀌는_역이_환승역이다() {
+        // given
+        final List<Station> stations = List.of(new Station("잠실역"), new Station("석촌역"), new Station("송파역"));
+
+        // when
+        final Route route = Route.of(stations, List.of("2호선", "8호선"), List.of(2, 3));
+
+        // then
+        assertThat(route.getTransferStations()).containsExactly(new Station("석촌역"));
+    }
+
+    @Test
+    void 경로를_뒤집으면_구간과_환승역도_반대_순서가_된다() {
+        // given
+        final List<Station> stations = List.of(new Station("잠실역"), new Station("석촌역"), new Station("송파역"));
+        final Route route = Route.of(stations, List.of("2호선", "8호선"), List.of(2, 3));
+
+        // when
+        final Route reversed = route.reverse();
+
+        // then
+        assertAll(
+                () -> assertThat(reversed.getStations())
+                        .containsExactly(new Station("송파역"), new Station("석촌역"), new Station("잠실역")),
+                () -> assertThat(reversed.getDistance()).isEqualTo(5),
+                () -> assertThat(reversed.getLegs()).extracting(Leg::getLineName).containsExactly("8호선", "2호선"),
+                () -> assertThat(reversed.getLegs()).extracting(Leg::getDistance).containsExactly(3, 2),
+                () -> assertThat(reversed.getTransferStations()).containsExactly(new Station("석촌역"))
+        );
+    }
+
+    @Test
+    void 역과_구간의_개수가_맞지_않으면_예외가_발생한다() {
+        // given
+        final List<Station> stations = List.of(new Station("잠실역"), new Station("석촌역"));
+
+        // expect
+        assertThatThrownBy(() -> Route.of(stations, List.of(), List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("경로 정보가 올바르지 않습니다.");
+    }
+}
@@ -202,6 +202,40 @@ class SectionsTest {
         assertThat(sections.get()).isEmpty();
     }
 
+    @Test
+    void 구간_사이에_역을_등록하면_구간_변경을_기록한다() {
+        // given
+        final Sections sections = new Sections(List.of(new Section("잠실역", "석촌역", 10)));
+
+        // when
+        sections.register(new Station("잠실역"), new Station("송파역"), 4);
+
+        // then
+        assertThat(sections.getChanges()).containsExactly(
+                SectionChange.added(new Section("송파역", "석촌역", 6)),
+                SectionChange.removed(new Section("잠실역", "석촌역", 10)),
+                SectionChange.added(new Section("잠실역", "송파역", 4))
+        );
+    }
+
+    @Test
+    void 중간_역을_제거하면_구간_변경을_기록한다() {
+        // given
+        final Sections sections = new Sections(List.of(
+                new Section("잠실역", "송파역", 4),
+                new Section("송파역", "석촌역", 6)));
+
+        // when
+        sections.delete(new Station("송파역"));
+
+        // then
+        assertThat(sections.getChanges()).containsExactly(
+                SectionChange.added(new Section("잠실역", "석촌역", 10)),
+                SectionChange.removed(new Section("잠실역", "송파역", 4)),
+                SectionChange.removed(new Section("송파역", "석촌역", 6))
+        );
+    }
+
     @Test
     void 역을_순서대로_조회한다() {
         // given
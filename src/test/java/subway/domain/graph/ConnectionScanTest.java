@@ -0,0 +1,116 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Journey;
+import subway.domain.Leg;
+import subway.domain.Station;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ConnectionScanTest {
+
+    private ConnectionScan connectionScan;
+
+    //  천호 --8호선-- 잠실 --8호선-- 석촌
+    //                  \
+    //                 2호선
+    //                    \
+    //                   잠실새내
+    @BeforeEach
+    void setUp() {
+        final ConnectionScan.Builder builder = new ConnectionScan.Builder();
+        builder.addConnection("8호선", "잠실역", "석촌역", time("08:20"), time("08:23"), 2);
+        builder.addConnection("8호선", "천호역", "잠실역", time("08:00"), time("08:06"), 4);
+        builder.addConnection("8호선", "천호역", "잠실역", time("08:10"), time("08:16"), 4);
+        builder.addConnection("2호선", "잠실역", "잠실새내역", time("08:05"), time("08:08"), 5);
+        builder.addConnection("2호선", "잠실역", "잠실새내역", time("08:18"), time("08:21"), 5);
+        builder.addConnection("8호선", "잠실역", "석촌역", time("08:07"), time("08:10"), 2);
+        connectionScan = builder.build();
+    }
+
+    private static int time(final String text) {
+        return LocalTime.parse(text).toSecondOfDay();
+    }
+
+    @Test
+    void 환승역에서_갈아탈_수_있는_가장_빠른_출발편으로_도착한다() {
+        // when
+        final Journey journey = connectionScan.findEarliestArrival(
+                new Station("천호역"), new Station("석촌역"), time("07:55"));
+
+        // then
+        assertAll(
+                () -> assertThat(journey.getDepartureTime()).isEqualTo(time("08:00")),
+                () -> assertThat(journey.getArrivalTime()).isEqualTo(time("08:10")),
+                () -> assertThat(journey.getRoute().getDistance()).isEqualTo(6),
+                () -> assertThat(journey.getRoute().getStations()).containsExactly(
+                        new Station("천호역"), new Station("잠실역"), new Station("석촌역"))
+        );
+    }
+
+    @Test
+    void 이미_떠난_출발편은_타지_않는다() {
+        // when
+        final Journey journey = connectionScan.findEarliestArrival(
+                new Station("천호역"), new Station("잠실새내역"), time("08:01"));
+
+        // then
+        assertAll(
+                () -> assertThat(journey.getDepartureTime()).isEqualTo(time("08:10")),
+                () -> assertThat(journey.getArrivalTime()).isEqualTo(time("08:21")),
+                () -> assertThat(journey.getRoute().getLegs()).extracting(Leg::getLineName)
+                        .containsExactly("8호선", "2호선")
+        );
+    }
+
+    @Test
+    void 출발역과_도착역이_같으면_바로_도착한다() {
+        // when
+        final Journey journey = connectionScan.findEarliestArrival(
+                new Station("잠실역"), new Station("잠실역"), time("09:00"));
+
+        // then
+        assertAll(
+                () -> assertThat(journey.getArrivalTime()).isEqualTo(time("09:00")),
+                () -> assertThat(journey.getRoute().getDistance()).isZero()
+        );
+    }
+
+    @Test
+    void 남은_출발편으로_닿을_수_없으면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> connectionScan.findEarliestArrival(
+                new Station("천호역"), new Station("석촌역"), time("08:11")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("두 역 사이의 경로가 존재하지 않습니다.");
+    }
+
+    @Test
+    void 출발편이_없는_역이면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> connectionScan.findEarliestArrival(
+                new Station("송파역"), new Station("석촌역"), time("08:00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("출발역을 지나는 출발편이 존재하지 않습니다.");
+    }
+
+    @Test
+    void 도착_시각이_출발_시각보다_늦지_않은_출발편은_추가할_수_없다() {
+        // given
+        final ConnectionScan.Builder builder = new ConnectionScan.Builder();
+
+        // expect
+        assertThatThrownBy(() -> builder.addConnection(
+                "8호선", "잠실역", "석촌역", time("08:20"), time("08:20"), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("도착 시각은 출발 시각보다 늦어야 합니다.");
+    }
+}
@@ -0,0 +1,164 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Leg;
+import subway.domain.Line;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ContractionHierarchyNavigationTest {
+
+    //              가락시장
+    //              /    \
+    //             8      4
+    //            /        \
+    //          수서        문정
+    //            \          \
+    //             4          8
+    //              \          \
+    //              복정 - 10 - 장지
+    private final Subway subway = new Subway(List.of(
+            new Line("3호선", "주황색", List.of(new Section("수서역", "가락시장역", 8))),
+            new Line("분당선", "노란색", List.of(new Section("수서역", "복정역", 4))),
+            new Line("8호선", "분홍색", List.of(
+                    new Section("가락시장역", "문정역", 4),
+                    new Section("문정역", "장지역", 8),
+                    new Section("장지역", "복정역", 10))),
+            new Line("경강선", "파란색", List.of(new Section("경기광주역", "삼동역", 10)))
+    ));
+
+    @Test
+    void 최단_경로와_노선별_구간을_조회한다() {
+        // given
+        final Navigation navigation = ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // when
+        final Route route = navigation.getRoute(new Station("수서역"), new Station("장지역"));
+
+        // then
+        assertAll(
+                () -> assertThat(route.getDistance()).isEqualTo(14),
+                () -> assertThat(route.getStations())
+                        .containsExactly(new Station("수서역"), new Station("복정역"), new Station("장지역")),
+                () -> assertThat(route.getLegs()).extracting(Leg::getLineName).containsExactly("분당선", "8호선"),
+                () -> assertThat(route.getTransferStations()).containsExactly(new Station("복정역"))
+        );
+    }
+
+    @Test
+    void 출발역과_도착역이_같으면_거리는_0이다() {
+        // given
+        final Navigation navigation = ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // when
+        final Route route = navigation.getRoute(new Station("수서역"), new Station("수서역"));
+
+        // then
+        assertAll(
+                () -> assertThat(route.getDistance()).isZero(),
+                () -> assertThat(route.getStations()).containsExactly(new Station("수서역"))
+        );
+    }
+
+    @Test
+    void 출발역이_노선에_존재하지_않을_경우_예외가_발생한다() {
+        // given
+        final Navigation navigation = ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> navigation.getRoute(new Station("터틀역"), new Station("수서역")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("출발역이 존재하지 않습니다.");
+    }
+
+    @Test
+    void 도착역이_노선에_존재하지_않을_경우_예외가_발생한다() {
+        // given
+        final Navigation navigation = ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> navigation.getRoute(new Station("수서역"), new Station("터틀역")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("도착역이 존재하지 않습니다.");
+    }
+
+    @Test
+    void 두_역_사이_경로가_존재하지_않는_경우_예외가_발생한다() {
+        // given
+        final Navigation navigation = ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> navigation.getRoute(new Station("경기광주역"), new Station("수서역")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("두 역 사이의 경로가 존재하지 않습니다.");
+    }
+
+    @Test
+    void 단축_간선을_풀어_원래_구간들로_경로를_만든다() {
+        // given
+        final Line line = new Line("2호선", "초록색", List.of(
+                new Section("잠실역", "잠실새내역", 2),
+                new Section("잠실새내역", "종합운동장역", 3),
+                new Section("종합운동장역", "삼성역", 4),
+                new Section("삼성역", "선릉역", 5)));
+        final ContractionHierarchyNavigation navigation =
+                ContractionHierarchyNavigation.from(StationGraphs.from(new Subway(List.of(line))));
+
+        // when
+        final Route route = navigation.getRoute(new Station("잠실역"), new Station("선릉역"));
+
+        // then
+        assertAll(
+                () -> assertThat(route.getDistance()).isEqualTo(14),
+                () -> assertThat(route.getStations()).hasSize(5),
+                () -> assertThat(route.getLegs()).hasSize(1)
+        );
+    }
+
+    @Test
+    void 전처리_결과를_보고한다() {
+        // given
+        final ContractionHierarchyNavigation navigation =
+                ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // when
+        final ContractionHierarchyReport report = navigation.report();
+
+        // then
+        assertAll(
+                () -> assertThat(report.getPreprocessingMillis()).isNotNegative(),
+                () -> assertThat(report.getShortcutCount()).isNotNegative(),
+                () -> assertThat(report.isSpeedupMeasured()).isFalse(),
+                () -> assertThat(report.toString()).doesNotContain("speedup")
+        );
+    }
+
+    @Test
+    void 표본_질의로_다익스트라_대비_속도_향상을_잰다() {
+        // given
+        final ContractionHierarchyNavigation navigation =
+                ContractionHierarchyNavigation.from(StationGraphs.from(subway));
+
+        // when
+        final ContractionHierarchyReport report = navigation.measureSpeedup();
+
+        // then
+        assertAll(
+                () -> assertThat(report.isSpeedupMeasured()).isTrue(),
+                () -> assertThat(report.getSpeedup()).isPositive()
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class IntMinHeapTest {
+
+    @Test
+    void 키가_작은_순서대로_꺼낸다() {
+        // given
+        final IntMinHeap heap = new IntMinHeap(5);
+        heap.insertOrDecrease(0, 30);
+        heap.insertOrDecrease(1, 10);
+        heap.insertOrDecrease(2, 50);
+        heap.insertOrDecrease(3, 20);
+
+        // when
+        final List<Integer> polled = pollAll(heap);
+
+        // then
+        assertThat(polled).containsExactly(1, 3, 0, 2);
+    }
+
+    @Test
+    void 이미_들어있는_노드의_키를_줄일_수_있다() {
+        // given
+        final IntMinHeap heap = new IntMinHeap(3);
+        heap.insertOrDecrease(0, 10);
+        heap.insertOrDecrease(1, 20);
+        heap.insertOrDecrease(2, 30);
+
+        // when
+        heap.insertOrDecrease(2, 5);
+        heap.insertOrDecrease(0, 40);
+
+        // then
+        assertThat(pollAll(heap)).containsExactly(2, 0, 1);
+    }
+
+    @Test
+    void 비운_뒤에도_다시_사용할_수_있다() {
+        // given
+        final IntMinHeap heap = new IntMinHeap(2);
+        heap.insertOrDecrease(0, 10);
+        heap.insertOrDecrease(1, 20);
+
+        // when
+        heap.clear();
+        heap.insertOrDecrease(1, 7);
+
+        // then
+        assertThat(pollAll(heap)).containsExactly(1);
+    }
+
+    private List<Integer> pollAll(final IntMinHeap heap) {
+        final List<Integer> polled = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            polled.add(heap.poll());
+        }
+        return polled;
+    }
+}
@@ -0,0 +1,124 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Leg;
+import subway.domain.Line;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class KShortestPathsTest {
+
+    //              가락시장
+    //              /    \
+    //             8      4
+    //            /        \
+    //          수서        문정
+    //            \          \
+    //             4          8
+    //              \          \
+    //              복정 - 10 - 장지
+    private final Subway subway = new Subway(List.of(
+            new Line("3호선", "주황색", List.of(new Section("수서역", "가락시장역", 8))),
+            new Line("분당선", "노란색", List.of(new Section("수서역", "복정역", 4))),
+            new Line("8호선", "분홍색", List.of(
+                    new Section("가락시장역", "문정역", 4),
+                    new Section("문정역", "장지역", 8),
+                    new Section("장지역", "복정역", 10))),
+            new Line("경강선", "파란색", List.of(new Section("경기광주역", "삼동역", 10)))
+    ));
+
+    @Test
+    void 대안_경로를_거리순으로_조회한다() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = kShortestPaths.find(new Station("수서역"), new Station("장지역"), 3, 2.0);
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getDistance).containsExactly(14, 20),
+                () -> assertThat(routes.get(1).getStations()).containsExactly(
+                        new Station("수서역"), new Station("가락시장역"), new Station("문정역"), new Station("장지역"))
+        );
+    }
+
+    @Test
+    void 같은_구간을_다른_노선으로_지나는_경로는_따로_조회한다() {
+        // given
+        final Subway shared = new Subway(List.of(
+                new Line("2호선", "초록색", List.of(new Section("잠실역", "종합운동장역", 5))),
+                new Line("9호선", "금색", List.of(new Section("잠실역", "종합운동장역", 5)))
+        ));
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(shared));
+
+        // when
+        final List<Route> routes = kShortestPaths.find(new Station("잠실역"), new Station("종합운동장역"), 3, 2.0);
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getStations).containsOnly(
+                        List.of(new Station("잠실역"), new Station("종합운동장역"))),
+                () -> assertThat(routes).flatExtracting(Route::getLegs).extracting(Leg::getLineName)
+                        .containsExactlyInAnyOrder("2호선", "9호선")
+        );
+    }
+
+    @Test
+    void 최단_거리의_허용_비율을_넘는_경로는_제외한다() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = kShortestPaths.find(new Station("수서역"), new Station("장지역"), 3, 1.2);
+
+        // then
+        assertThat(routes).extracting(Route::getDistance).containsExactly(14);
+    }
+
+    @Test
+    void 출발역과_도착역이_같으면_하나의_경로만_조회한다() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = kShortestPaths.find(new Station("수서역"), new Station("수서역"), 3, 2.0);
+
+        // then
+        assertThat(routes).extracting(Route::getDistance).containsExactly(0);
+    }
+
+    @Test
+    void 두_역_사이_경로가_존재하지_않는_경우_예외가_발생한다() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> kShortestPaths.find(new Station("경기광주역"), new Station("수서역"), 3, 2.0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("두 역 사이의 경로가 존재하지 않습니다.");
+    }
+
+    @Test
+    void 허용_거리_비율이_1보다_작으면_예외가_발생한다() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> kShortestPaths.find(new Station("수서역"), new Station("장지역"), 3, 0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용 거리 비율은 1 이상이어야 합니다.");
+    }
+}
@@ -0,0 +1,94 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Line;
+import subway.domain.ReachableStation;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReachableStationsTest {
+
+    //              가락시장
+    //              /    \
+    //             8      4
+    //            /        \
+    //          수서        문정
+    //            \          \
+    //             4          8
+    //              \          \
+    //              복정 - 10 - 장지
+    private final Subway subway = new Subway(List.of(
+            new Line("3호선", "주황색", List.of(new Section("수서역", "가락시장역", 8))),
+            new Line("분당선", "노란색", List.of(new Section("수서역", "복정역", 4))),
+            new Line("8호선", "분홍색", List.of(
+                    new Section("가락시장역", "문정역", 4),
+                    new Section("문정역", "장지역", 8),
+                    new Section("장지역", "복정역", 10))),
+            new Line("경강선", "파란색", List.of(new Section("경기광주역", "삼동역", 10)))
+    ));
+
+    @Test
+    void 최대_거리_안의_역을_거리순으로_꺼낸다() {
+        // given
+        final ReachableStations reachableStations = new ReachableStations(StationGraphs.from(subway));
+
+        // when
+        final List<ReachableStation> stations = new ArrayList<>();
+        reachableStations.search(new Station("수서역"), 12).forEachRemaining(stations::add);
+
+        // then
+        assertAll(
+                () -> assertThat(stations).extracting(ReachableStation::getStation).containsExactly(
+                        new Station("수서역"), new Station("복정역"), new Station("가락시장역"), new Station("문정역")),
+                () -> assertThat(stations).extracting(ReachableStation::getDistance).containsExactly(0, 4, 8, 12)
+        );
+    }
+
+    @Test
+    void 다른_연결_요소의_역은_꺼내지_않는다() {
+        // given
+        final ReachableStations reachableStations = new ReachableStations(StationGraphs.from(subway));
+
+        // when
+        final List<ReachableStation> stations = new ArrayList<>();
+        reachableStations.search(new Station("경기광주역"), 100).forEachRemaining(stations::add);
+
+        // then
+        assertThat(stations).extracting(ReachableStation::getStation)
+                .containsExactly(new Station("경기광주역"), new Station("삼동역"));
+    }
+
+    @Test
+    void 출발역이_노선에_존재하지_않을_경우_꺼내기_전에_예외가_발생한다() {
+        // given
+        final ReachableStations reachableStations = new ReachableStations(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> reachableStations.search(new Station("터틀역"), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("출발역이 존재하지 않습니다.");
+    }
+
+    @Test
+    void 최대_거리가_음수이면_예외가_발생한다() {
+        // given
+        final ReachableStations reachableStations = new ReachableStations(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> reachableStations.search(new Station("수서역"), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 거리는 0 이상이어야 합니다.");
+    }
+}
@@ -0,0 +1,90 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ShortestPathTreeCacheTest {
+
+    private final StationGraph graph = StationGraphs.from(new Subway(List.of(
+            new Line("8호선", "분홍색", List.of(
+                    new Section("잠실역", "석촌역", 2),
+                    new Section("석촌역", "송파역", 3))))));
+
+    @Test
+    void 같은_버전과_출발역의_트리를_재사용한다() {
+        // given
+        final ShortestPathTreeCache cache = new ShortestPathTreeCache(1024);
+        final ShortestPathTree tree = cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0));
+
+        // when
+        final ShortestPathTree cached = cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0));
+        final ShortestPathTree otherVersion = cache.get(2L, 0, () -> ShortestPathTree.grow(graph, 0));
+
+        // then
+        assertAll(
+                () -> assertThat(cached).isSameAs(tree),
+                () -> assertThat(otherVersion).isNotSameAs(tree),
+                () -> assertThat(cache.getHitCount()).isEqualTo(1),
+                () -> assertThat(cache.getMissCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_사용하지_않은_트리를_내보낸다() {
+        // given
+        final long treeBytes = ShortestPathTree.grow(graph, 0).bytes();
+        final ShortestPathTreeCache cache = new ShortestPathTreeCache(treeBytes * 2);
+        cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0));
+        cache.get(1L, 1, () -> ShortestPathTree.grow(graph, 1));
+        cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0));
+
+        // when
+        cache.get(1L, 2, () -> ShortestPathTree.grow(graph, 2));
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.getBytes()).isEqualTo(treeBytes * 2),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0))).isNotNull(),
+                () -> assertThat(cache.getHitCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 이전_버전의_트리를_비운다() {
+        // given
+        final ShortestPathTreeCache cache = new ShortestPathTreeCache(1024);
+        cache.get(1L, 0, () -> ShortestPathTree.grow(graph, 0));
+        cache.get(2L, 0, () -> ShortestPathTree.grow(graph, 0));
+
+        // when
+        cache.evictOlderThan(2L);
+
+        // then
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.getEvictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 캐시_용량이_음수이면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> new ShortestPathTreeCache(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("캐시 용량은 0 이상이어야 합니다.");
+    }
+}
@@ -0,0 +1,111 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import subway.domain.Line;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.SectionChange;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class StationGraphFileTest {
+
+    @TempDir
+    Path directory;
+
+    private final Subway subway = new Subway(List.of(
+            new Line("8호선", "분홍색", List.of(
+                    new Section("암사역", "천호역", 3),
+                    new Section("천호역", "잠실역", 4),
+                    new Section("잠실역", "석촌역", 2))),
+            new Line("2호선", "초록색", List.of(
+                    new Section("잠실역", "잠실새내역", 5)))));
+
+    @Test
+    void 쓴_그래프를_그대로_읽는다() throws IOException {
+        // given
+        final Path path = directory.resolve("network.snapshot");
+        StationGraphFile.write(StationGraphs.from(subway), 7L, path);
+
+        // when
+        final StationGraph graph = StationGraphFile.read(path, 7L).orElseThrow();
+
+        // then
+        final Route route = new CsrNavigation(graph).getRoute(new Station("암사역"), new Station("잠실새내역"));
+        assertAll(
+                () -> assertThat(graph.stationCount()).isEqualTo(5),
+                () -> assertThat(graph.arcCount()).isEqualTo(8),
+                () -> assertThat(route.getDistance()).isEqualTo(12),
+                () -> assertThat(route.getStations()).containsExactly(
+                        new Station("암사역"), new Station("천호역"), new Station("잠실역"), new Station("잠실새내역"))
+        );
+    }
+
+    @Test
+    void 지문이_다르면_읽지_않는다() throws IOException {
+        // given
+        final Path path = directory.resolve("network.snapshot");
+        StationGraphFile.write(StationGraphs.from(subway), 7L, path);
+
+        // when
+        final Optional<StationGraph> graph = StationGraphFile.read(path, 8L);
+
+        // then
+        assertThat(graph).isEmpty();
+    }
+
+    @Test
+    void 파일이_없으면_읽지_않는다() throws IOException {
+        // expect
+        assertThat(StationGraphFile.read(directory.resolve("missing.snapshot"), 7L)).isEmpty();
+    }
+
+    @Test
+    void 잘린_파일은_손상된_것으로_본다() throws IOException {
+        // given
+        final Path path = directory.resolve("network.snapshot");
+        StationGraphFile.write(StationGraphs.from(subway), 7L, path);
+        final byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+
+        // expect
+        assertThatThrownBy(() -> StationGraphFile.read(path, 7L))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 제자리에서_고친_그래프는_여분의_칸을_빼고_쓴다() throws IOException {
+        // given
+        final StationGraph editable = StationGraphs.editable(subway, 0L);
+        editable.apply("8호선", List.of(SectionChange.added(new Section("석촌역", "송파역", 6))), 1L);
+        final Path path = directory.resolve("network.snapshot");
+
+        // when
+        StationGraphFile.write(editable, 7L, path);
+
+        // then
+        final StationGraph graph = StationGraphFile.read(path, 7L).orElseThrow();
+        assertAll(
+                () -> assertThat(graph.stationCount()).isEqualTo(6),
+                () -> assertThat(graph.stationCapacity()).isEqualTo(6),
+                () -> assertThat(new CsrNavigation(graph).getDistance(new Station("암사역"), new Station("송파역")))
+                        .isEqualTo(15)
+        );
+    }
+}
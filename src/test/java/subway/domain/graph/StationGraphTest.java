@@ -0,0 +1,191 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Leg;
+import subway.domain.Line;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.SectionChange;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class StationGraphTest {
+
+    @Test
+    void 구간마다_양방향_간선을_만든다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2),
+                new Section("석촌역", "송파역", 3)))));
+
+        // when
+        final StationGraph graph = StationGraphs.from(subway);
+
+        // then
+        final int 석촌역 = graph.idOf(new Station("석촌역"));
+        assertAll(
+                () -> assertThat(graph.stationCount()).isEqualTo(3),
+                () -> assertThat(graph.arcCount()).isEqualTo(4),
+                () -> assertThat(graph.end(석촌역) - graph.begin(석촌역)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 없는_역의_식별자는_NO_STATION이다() {
+        // given
+        final StationGraph graph = StationGraphs.from(new Subway());
+
+        // expect
+        assertThat(graph.idOf(new Station("잠실역"))).isEqualTo(StationGraph.NO_STATION);
+    }
+
+    @Test
+    void 간선의_출발역을_찾는다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2),
+                new Section("석촌역", "송파역", 3)))));
+        final StationGraph graph = StationGraphs.from(subway);
+
+        // expect
+        for (int station = 0; station < graph.stationCount(); station++) {
+            for (int arc = graph.begin(station); arc < graph.end(station); arc++) {
+                assertThat(graph.sourceOf(arc)).isEqualTo(station);
+            }
+        }
+    }
+
+    @Test
+    void 구간_변경을_제자리에서_반영한다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 10)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+
+        // when
+        final boolean applied = graph.apply("8호선", List.of(
+                SectionChange.added(new Section("송파역", "석촌역", 6)),
+                SectionChange.removed(new Section("잠실역", "석촌역", 10)),
+                SectionChange.added(new Section("잠실역", "송파역", 4))), 1L);
+
+        // then
+        final Route route = new CsrNavigation(graph).getRoute(new Station("잠실역"), new Station("석촌역"));
+        assertAll(
+                () -> assertThat(applied).isTrue(),
+                () -> assertThat(graph.version()).isEqualTo(1L),
+                () -> assertThat(graph.arcCount()).isEqualTo(4),
+                () -> assertThat(route.getStations()).containsExactly(
+                        new Station("잠실역"), new Station("송파역"), new Station("석촌역")),
+                () -> assertThat(route.getLegs()).extracting(Leg::getLineName).containsExactly("8호선")
+        );
+    }
+
+    @Test
+    void 고친_그래프를_여분의_자리_없이_복사하면_이후_변경과_상관없이_남는다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 10)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+        graph.apply("8호선", List.of(SectionChange.added(new Section("석촌역", "송파역", 5))), 1L);
+
+        // when
+        final StationGraph compacted = graph.compact();
+        graph.apply("8호선", List.of(SectionChange.removed(new Section("석촌역", "송파역", 5))), 2L);
+
+        // then
+        assertAll(
+                () -> assertThat(compacted.arcCount()).isEqualTo(4),
+                () -> assertThat(compacted.offsets).hasSize(compacted.stationCount() + 1),
+                () -> assertThat(compacted.targets).hasSize(4),
+                () -> assertThat(new CsrNavigation(compacted).getDistance(new Station("잠실역"), new Station("송파역")))
+                        .isEqualTo(15)
+        );
+    }
+
+    @Test
+    void 구간이_모두_지워진_역은_없는_역으로_본다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2),
+                new Section("석촌역", "송파역", 3)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+
+        // when
+        graph.apply("8호선", List.of(SectionChange.removed(new Section("석촌역", "송파역", 3))), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(graph.idOf(new Station("송파역"))).isEqualTo(StationGraph.NO_STATION),
+                () -> assertThat(graph.idOf(new Station("석촌역"))).isNotEqualTo(StationGraph.NO_STATION)
+        );
+    }
+
+    @Test
+    void 여분의_자리가_모자라면_변경을_되돌리고_false를_반환한다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+
+        // when
+        final boolean applied = graph.apply("2호선", List.of(
+                SectionChange.added(new Section("잠실역", "잠실나루역", 2)),
+                SectionChange.added(new Section("잠실역", "종합운동장역", 3)),
+                SectionChange.added(new Section("잠실역", "잠실새내역", 4))), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isFalse(),
+                () -> assertThat(graph.version()).isZero(),
+                () -> assertThat(graph.stationCount()).isEqualTo(2),
+                () -> assertThat(graph.arcCount()).isEqualTo(2),
+                () -> assertThat(graph.idOf(new Station("잠실나루역"))).isEqualTo(StationGraph.NO_STATION)
+        );
+    }
+
+    @Test
+    void 없는_구간을_지우면_false를_반환한다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+
+        // when
+        final boolean applied = graph.apply("8호선", List.of(
+                SectionChange.removed(new Section("잠실역", "석촌역", 3))), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isFalse(),
+                () -> assertThat(graph.arcCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void 이미_있는_구간을_더하면_간선을_겹쳐_넣지_않고_false를_반환한다() {
+        // given
+        final Subway subway = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 2)))));
+        final StationGraph graph = StationGraphs.editable(subway, 0L);
+
+        // when
+        final boolean applied = graph.apply("8호선", List.of(
+                SectionChange.added(new Section("잠실역", "석촌역", 2))), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isFalse(),
+                () -> assertThat(graph.version()).isZero(),
+                () -> assertThat(graph.arcCount()).isEqualTo(2)
+        );
+    }
+}
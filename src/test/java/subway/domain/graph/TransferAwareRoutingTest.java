@@ -0,0 +1,112 @@
+package subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import subway.domain.Line;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TransferAwareRoutingTest {
+
+    //   잠실 - 5 - 석촌 - 5 - 송파 - 5 - 가락시장   (8호선)
+    //     \                              /
+    //      2 (2호선)           (3호선) 3
+    //       \                          /
+    //        -------- 종합운동장 -------
+    private final Subway subway = new Subway(List.of(
+            new Line("8호선", "분홍색", List.of(
+                    new Section("잠실역", "석촌역", 5),
+                    new Section("석촌역", "송파역", 5),
+                    new Section("송파역", "가락시장역", 5))),
+            new Line("2호선", "초록색", List.of(new Section("잠실역", "종합운동장역", 2))),
+            new Line("3호선", "주황색", List.of(new Section("종합운동장역", "가락시장역", 3))),
+            new Line("경강선", "파란색", List.of(new Section("경기광주역", "삼동역", 10)))
+    ));
+
+    @Test
+    void 환승_횟수와_거리의_파레토_최적_경로를_조회한다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = routing.find(new Station("잠실역"), new Station("가락시장역"), 5, 4);
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getDistance).containsExactly(5, 15),
+                () -> assertThat(routes.get(0).getTransferStations()).containsExactly(new Station("종합운동장역")),
+                () -> assertThat(routes.get(1).getTransferStations()).isEmpty()
+        );
+    }
+
+    @Test
+    void 환승_가중치가_줄어든_거리보다_커도_더_짧은_환승_경로를_함께_조회한다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = routing.find(new Station("잠실역"), new Station("가락시장역"), 20, 4);
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getDistance).containsExactly(15, 5),
+                () -> assertThat(routes.get(0).getTransferStations()).isEmpty(),
+                () -> assertThat(routes.get(1).getTransferStations()).containsExactly(new Station("종합운동장역"))
+        );
+    }
+
+    @Test
+    void 최대_환승_횟수를_넘는_경로는_조회하지_않는다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // when
+        final List<Route> routes = routing.find(new Station("잠실역"), new Station("가락시장역"), 0, 0);
+
+        // then
+        assertThat(routes).extracting(Route::getDistance).containsExactly(15);
+    }
+
+    @Test
+    void 최대_환승_횟수가_상한을_넘으면_예외가_발생한다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> routing.find(new Station("잠실역"), new Station("가락시장역"), 5,
+                TransferAwareRouting.MAX_TRANSFERS + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 환승 횟수는 0 이상 8 이하여야 합니다.");
+    }
+
+    @Test
+    void 역마다_지나는_노선별로_노드를_만든다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // expect
+        assertThat(routing.nodeCount()).isEqualTo(10);
+    }
+
+    @Test
+    void 두_역_사이_경로가_존재하지_않는_경우_예외가_발생한다() {
+        // given
+        final TransferAwareRouting routing = new TransferAwareRouting(StationGraphs.from(subway));
+
+        // expect
+        assertThatThrownBy(() -> routing.find(new Station("경기광주역"), new Station("잠실역"), 5, 4))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("두 역 사이의 경로가 존재하지 않습니다.");
+    }
+}
@@ -0,0 +1,69 @@
+package subway.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import subway.domain.JgraphtNavigation;
+import subway.domain.Navigation;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.fixture.SyntheticNetwork.Shape;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SyntheticNetworkTest {
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void 같은_시드로_만들면_같은_노선망이_나온다(final Shape shape) {
+        // given
+        final SyntheticNetwork network = SyntheticNetwork.generate(shape, 6, 20, 7L);
+        final SyntheticNetwork other = SyntheticNetwork.generate(shape, 6, 20, 7L);
+
+        // expect
+        assertThat(other.toSubway().getLines())
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(network.toSubway().getLines());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void 노선마다_주어진_수의_역을_지나고_모든_역이_이어진다(final Shape shape) {
+        // given
+        final SyntheticNetwork network = SyntheticNetwork.generate(shape, 8, 30, 1L);
+        final Subway subway = network.toSubway();
+
+        // when
+        final Navigation navigation = JgraphtNavigation.from(StationGraphs.from(subway));
+        final List<Station> stations = new ArrayList<>();
+        for (int index = 0; index < network.stationCount(); index++) {
+            stations.add(network.stationOf(index));
+        }
+        final int[] distances = navigation.getDistances(network.stationOf(0), stations);
+
+        // then
+        assertAll(
+                () -> assertThat(subway.getLines()).hasSize(8)
+                        .allSatisfy(line -> assertThat(line.stations()).hasSize(30)),
+                () -> assertThat(network.sectionCount()).isEqualTo(8 * 29),
+                () -> assertThat(network.stationCount()).isLessThan(8 * 30),
+                () -> assertThat(distances).doesNotContain(Navigation.UNREACHABLE)
+        );
+    }
+
+    @Test
+    void 격자_노선망의_가로_노선이_역_수보다_많으면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> SyntheticNetwork.generate(Shape.GRID, 12, 5, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("격자 노선망은 가로 노선 수가 노선마다의 역 수보다 많을 수 없습니다.");
+    }
+}
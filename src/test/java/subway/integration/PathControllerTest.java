@@ -1,6 +1,9 @@
 package subway.integration;
 
 import io.restassured.RestAssured;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
@@ -9,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
@@ -17,6 +21,11 @@ import subway.dao.LineDao;
 import subway.dao.SectionDao;
 import subway.dao.StationDao;
 import subway.dao.entity.StationEntity;
+import subway.dto.request.CreateDepartureRequest;
+import subway.dto.request.ReadAlternativePathRequest;
+import subway.dto.request.ReadEarliestArrivalRequest;
+import subway.dto.request.ReadPathBatchRequest;
+import subway.dto.request.ReadPathMatrixRequest;
 import subway.dto.request.ReadPathRequest;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -71,6 +80,167 @@ class PathControllerTest extends IntegrationTest {
                 .statusCode(is(HttpStatus.OK.value()));
     }
 
+    @Test
+    void 대안_경로를_조회한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadAlternativePathRequest("수서역", "장지역", 3))
+                .when().get("/paths/alternatives")
+                .then().log().all()
+                .body("distance", contains(14, 20))
+                .statusCode(is(HttpStatus.OK.value()));
+    }
+
+    @Test
+    void 여러_경로를_한_번에_조회한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadPathBatchRequest(List.of(
+                        new ReadPathRequest("문정역", "수서역"),
+                        new ReadPathRequest("수서역", "장지역"))))
+                .when().post("/paths/batch")
+                .then().log().all()
+                .body("distance", contains(12, 14))
+                .body("[1].stations", contains("수서역", "복정역", "장지역"))
+                .statusCode(is(HttpStatus.OK.value()));
+    }
+
+    @Test
+    void 한_번에_조회할_수_있는_경로_개수를_넘으면_예외가_발생한다() {
+        // given
+        final List<ReadPathRequest> paths = Collections.nCopies(
+                ReadPathBatchRequest.MAX_SIZE + 1, new ReadPathRequest("문정역", "수서역"));
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadPathBatchRequest(paths))
+                .when().post("/paths/batch")
+                .then().log().all()
+                .statusCode(is(HttpStatus.BAD_REQUEST.value()));
+    }
+
+    @Test
+    void 출발역과_도착역_목록의_거리_행렬을_조회한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadPathMatrixRequest(List.of("문정역", "수서역"), List.of("수서역", "장지역")))
+                .when().post("/paths/matrix")
+                .then().log().all()
+                .body("distances", contains(12, 8, 0, 14))
+                .body("fares", contains(1350, 1250, 1250, 1350))
+                .statusCode(is(HttpStatus.OK.value()));
+    }
+
+    @Test
+    void 한_번에_조회할_수_있는_출발역_개수를_넘으면_예외가_발생한다() {
+        // given
+        final List<String> sourceStations = Collections.nCopies(ReadPathMatrixRequest.MAX_SIZE + 1, "문정역");
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadPathMatrixRequest(sourceStations, List.of("수서역")))
+                .when().post("/paths/matrix")
+                .then().log().all()
+                .statusCode(is(HttpStatus.BAD_REQUEST.value()));
+    }
+
+    @Test
+    void 거리_행렬_조회시_출발역이_없으면_예외가_발생한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadPathMatrixRequest(List.of("문정역", "터틀역"), List.of("수서역")))
+                .when().post("/paths/matrix")
+                .then().log().all()
+                .body(equalTo("출발역이 존재하지 않습니다."))
+                .statusCode(is(HttpStatus.BAD_REQUEST.value()));
+    }
+
+    @Test
+    void 최대_거리_안에_도달할_수_있는_역을_조회한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .queryParam("source", "문정역")
+                .queryParam("maxDistance", 8)
+                .when().get("/paths/reachable")
+                .then().log().all()
+                .body("station", contains("문정역", "가락시장역", "장지역"))
+                .body("distance", contains(0, 4, 8))
+                .body("fare", contains(1250, 1250, 1250))
+                .statusCode(is(HttpStatus.OK.value()));
+    }
+
+    @Test
+    void 도달_가능한_역_조회시_출발역이_없으면_예외가_발생한다() {
+        // given
+        노선_역_더미_등록();
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .queryParam("source", "터틀역")
+                .queryParam("maxDistance", 8)
+                .when().get("/paths/reachable")
+                .then().log().all()
+                .statusCode(is(HttpStatus.BAD_REQUEST.value()));
+    }
+
+    @Test
+    void 출발_시각을_기준으로_가장_빨리_도착하는_경로를_조회한다() {
+        // given
+        노선_역_더미_등록();
+        final Long lineId = lineDao.findByName("8호선").orElseThrow().getId();
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new CreateDepartureRequest(lineId, "문정역", "가락시장역",
+                        List.of(LocalTime.of(8, 0), LocalTime.of(8, 10)), 3))
+                .when().post("/timetables")
+                .then().log().all()
+                .statusCode(is(HttpStatus.CREATED.value()));
+
+        // expect
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new ReadEarliestArrivalRequest("문정역", "가락시장역", LocalTime.of(8, 5)))
+                .when().get("/paths/earliest")
+                .then().log().all()
+                .body("departureTime", equalTo("08:10:00"))
+                .body("arrivalTime", equalTo("08:13:00"))
+                .body("distance", equalTo(4))
+                .body("fare", equalTo(1250))
+                .body("stations", contains("문정역", "가락시장역"))
+                .statusCode(is(HttpStatus.OK.value()));
+    }
+
     private void 노선_역_더미_등록() {
         final Long firstLineId = lineDao.insert("3호선", "주황색");
         final Long secondLineId = lineDao.insert("분당선", "노란색");
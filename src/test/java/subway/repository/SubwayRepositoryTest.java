@@ -13,7 +13,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.jdbc.core.JdbcTemplate;
 import subway.domain.Line;
+import subway.domain.Station;
 import subway.domain.Subway;
+import subway.domain.graph.CsrNavigation;
+import subway.domain.graph.StationGraph;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -50,4 +53,26 @@ class SubwayRepositoryTest {
                 new Line("2호선", "초록색")
         );
     }
+
+    @Test
+    void 구간_테이블에서_역_그래프를_바로_읽는다() {
+        // given
+        final Line line = new Line("8호선", "분홍색");
+        lineRepository.registerLine(line);
+        jdbcTemplate.update("INSERT INTO station (name) VALUES ('잠실역'), ('석촌역'), ('송파역')");
+        line.registerSection(new Station("잠실역"), new Station("석촌역"), 10);
+        line.registerSection(new Station("석촌역"), new Station("송파역"), 5);
+        lineRepository.updateLine(line);
+
+        // when
+        final StationGraph graph = subwayRepository.readStationGraph().build();
+
+        // then
+        assertAll(
+                () -> assertThat(graph.stationCount()).isEqualTo(3),
+                () -> assertThat(graph.arcCount()).isEqualTo(4),
+                () -> assertThat(new CsrNavigation(graph).getDistance(new Station("잠실역"), new Station("송파역")))
+                        .isEqualTo(15)
+        );
+    }
 }
@@ -0,0 +1,104 @@
+package subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.EnumSource.Mode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import subway.domain.Line;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.domain.graph.DistanceMatrixNavigation;
+import subway.domain.graph.ShortestPathTreeCache;
+import subway.domain.graph.StationGraph;
+import subway.fixture.StationGraphs;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class NavigationEngineTest {
+
+    private final Subway subway = new Subway(List.of(
+            new Line("3호선", "주황색", List.of(new Section("수서역", "가락시장역", 8))),
+            new Line("분당선", "노란색", List.of(new Section("수서역", "복정역", 4))),
+            new Line("8호선", "분홍색", List.of(
+                    new Section("가락시장역", "문정역", 4),
+                    new Section("문정역", "장지역", 8),
+                    new Section("장지역", "복정역", 10)))
+    ));
+
+    @Autowired
+    private NavigationEngineRegistry engineRegistry;
+
+    @Autowired
+    private List<NavigationFactory> factories;
+
+    @ParameterizedTest
+    @EnumSource(value = NavigationEngine.class, names = "AUTO", mode = Mode.EXCLUDE)
+    void 모든_엔진은_같은_최단_경로를_찾는다(final NavigationEngine engine) {
+        // given
+        final Navigation navigation = engineRegistry.get(engine).create(new NavigationContext(
+                StationGraph.builderOf(subway), 0L, new NavigationProperties(), new ShortestPathTreeCache(1024 * 1024)));
+
+        // when
+        final Route route = navigation.getRoute(new Station("문정역"), new Station("수서역"));
+
+        // then
+        assertAll(
+                () -> assertThat(route.getDistance()).isEqualTo(12),
+                () -> assertThat(route.getStations())
+                        .containsExactly(new Station("문정역"), new Station("가락시장역"), new Station("수서역"))
+        );
+    }
+
+    @Test
+    void 자동_모드는_노선망의_크기에_따라_엔진을_고른다() {
+        // given
+        final StationGraph graph = StationGraphs.from(subway);
+        final NavigationProperties small = new NavigationProperties();
+        final NavigationProperties medium = new NavigationProperties();
+        medium.setAutoDijkstraMaxSections(4);
+        final NavigationProperties large = new NavigationProperties();
+        large.setAutoDijkstraMaxSections(4);
+        large.setMatrixMaxStations(4);
+        final NavigationProperties heavy = new NavigationProperties();
+        heavy.setAutoDijkstraMaxSections(4);
+        heavy.setMatrixMaxBytes(DistanceMatrixNavigation.matrixBytes(graph.stationCount()) - 1);
+
+        // expect
+        assertAll(
+                () -> assertThat(new NavigationEngineRegistry(factories, small)
+                        .select(NavigationEngine.AUTO, graph).getEngine()).isEqualTo(NavigationEngine.CSR),
+                () -> assertThat(new NavigationEngineRegistry(factories, medium)
+                        .select(NavigationEngine.AUTO, graph).getEngine()).isEqualTo(NavigationEngine.DISTANCE_MATRIX),
+                () -> assertThat(new NavigationEngineRegistry(factories, large)
+                        .select(NavigationEngine.AUTO, graph).getEngine()).isEqualTo(NavigationEngine.BIDIRECTIONAL),
+                () -> assertThat(new NavigationEngineRegistry(factories, heavy)
+                        .select(NavigationEngine.AUTO, graph).getEngine()).isEqualTo(NavigationEngine.BIDIRECTIONAL)
+        );
+    }
+
+    @Test
+    void 같은_엔진을_두_번_등록할_수_없다() {
+        // given
+        final NavigationFactory duplicated = new SimpleNavigationFactory(
+                NavigationEngine.CSR, context -> engineRegistry.get(NavigationEngine.CSR).create(context));
+
+        // expect
+        assertThatThrownBy(() -> new NavigationEngineRegistry(
+                List.of(engineRegistry.get(NavigationEngine.CSR), duplicated), new NavigationProperties()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,367 @@
+package subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.domain.Line;
+import subway.domain.Navigation;
+import subway.domain.Route;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+import subway.domain.graph.ContractionHierarchyNavigation;
+import subway.domain.graph.DistanceMatrixNavigation;
+import subway.domain.graph.IncrementalNavigation;
+import subway.domain.graph.StationGraph;
+import subway.domain.graph.StationGraphFile;
+import subway.fixture.StationGraphs;
+import subway.repository.SubwayRepository;
+import subway.service.dto.LineDto;
+import subway.service.dto.SectionDto;
+import subway.service.dto.StationDto;
+import subway.service.event.SubwayChangedEvent;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class NavigationProviderTest {
+
+    @Autowired
+    private NavigationProvider navigationProvider;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private SubwayRepository subwayRepository;
+
+    @Autowired
+    private NavigationEngineRegistry engineRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM line");
+        jdbcTemplate.execute("DELETE FROM station");
+    }
+
+    @Test
+    void 노선이_변경되지_않으면_같은_스냅샷을_재사용한다() {
+        // given
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+
+        // when
+        final NavigationSnapshot reused = navigationProvider.getSnapshot();
+
+        // then
+        assertThat(reused).isSameAs(snapshot);
+    }
+
+    @Test
+    void 역을_등록하면_새로운_버전의_스냅샷을_만든다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+
+        // when
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+
+        // then
+        final NavigationSnapshot rebuilt = navigationProvider.getSnapshot();
+        final int distance = rebuilt.getNavigation().getDistance(new Station("잠실역"), new Station("석촌역"));
+        assertAll(
+                () -> assertThat(rebuilt.getVersion()).isGreaterThan(snapshot.getVersion()),
+                () -> assertThat(distance).isEqualTo(10)
+        );
+    }
+
+    @Test
+    void 구간_변경은_그래프를_다시_만들지_않고_제자리에서_반영한다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CSR);
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+        final NavigationSnapshot snapshot = provider.getSnapshot();
+        final Line line = subwayRepository.findSubway().getLines().get(0);
+        line.registerSection(new Station("잠실역"), new Station("송파역"), 4);
+
+        // when
+        provider.invalidate(new SubwayChangedEvent(lineId, line.getName(), line.sectionChanges()));
+
+        // then
+        final NavigationSnapshot edited = provider.getSnapshot();
+        assertAll(
+                () -> assertThat(edited.getNavigation()).isSameAs(snapshot.getNavigation()),
+                () -> assertThat(edited.getVersion()).isEqualTo(snapshot.getVersion() + 1),
+                () -> assertThat(edited.getNavigation().getShortestPath(new Station("잠실역"), new Station("석촌역")))
+                        .containsExactly(new Station("잠실역"), new Station("송파역"), new Station("석촌역"))
+        );
+    }
+
+    @Test
+    void 제자리에서_고친_뒤의_부가_기능은_데이터베이스_대신_고친_그래프를_쓴다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CSR);
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+        provider.getSnapshot();
+        final Line line = subwayRepository.findSubway().getLines().get(0);
+        line.registerSection(new Station("잠실역"), new Station("송파역"), 4);
+
+        // when
+        provider.invalidate(new SubwayChangedEvent(lineId, line.getName(), line.sectionChanges()));
+
+        // then
+        final NavigationSnapshot edited = provider.getSnapshot();
+        assertAll(
+                () -> assertThat(edited.getGraph().idOf(new Station("송파역"))).isNotEqualTo(StationGraph.NO_STATION),
+                () -> assertThat(edited.getKShortestPaths().find(new Station("잠실역"), new Station("석촌역"), 1, 1.0))
+                        .extracting(Route::getStations)
+                        .containsExactly(List.of(new Station("잠실역"), new Station("송파역"), new Station("석촌역")))
+        );
+    }
+
+    @Test
+    void 다시_만든_그래프에_이미_담긴_구간_변경은_겹쳐_반영하지_않는다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CSR);
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+        provider.getSnapshot();
+        final Line registered = subwayRepository.findSubway().getLines().get(0);
+        registered.registerSection(new Station("석촌역"), new Station("송파역"), 5);
+        stationService.register(new SectionDto(lineId, "석촌역", "송파역", 5));
+        provider.invalidate(new SubwayChangedEvent(lineId));
+        provider.getSnapshot();
+
+        // when
+        provider.invalidate(new SubwayChangedEvent(lineId, registered.getName(), registered.sectionChanges()));
+        final Line deleted = subwayRepository.findSubway().getLines().get(0);
+        deleted.deleteStation(new Station("송파역"));
+        stationService.delete(new StationDto(lineId, "송파역"));
+        provider.invalidate(new SubwayChangedEvent(lineId, deleted.getName(), deleted.sectionChanges()));
+
+        // then
+        final Navigation navigation = provider.getSnapshot().getNavigation();
+        assertAll(
+                () -> assertThat(navigation.getDistance(new Station("잠실역"), new Station("석촌역"))).isEqualTo(10),
+                () -> assertThatThrownBy(() -> navigation.getDistance(new Station("잠실역"), new Station("송파역")))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void 구간_테이블에서_바로_읽은_그래프로_스냅샷을_만든다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        stationService.register(new SectionDto(lineId, "석촌역", "송파역", 5));
+
+        // when
+        final NavigationSnapshot snapshot = navigationProvider.getSnapshot();
+
+        // then
+        assertAll(
+                () -> assertThat(snapshot.getGraph().stationCount()).isEqualTo(3),
+                () -> assertThat(snapshot.getGraph().arcCount()).isEqualTo(4),
+                () -> assertThat(snapshot.getNavigation().getDistance(new Station("잠실역"), new Station("송파역")))
+                        .isEqualTo(15)
+        );
+    }
+
+    @Test
+    void 그래프_파일이_없으면_데이터베이스에서_읽고_파일로_남긴다(@TempDir final Path directory) throws IOException {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final Path path = directory.resolve("network.snapshot");
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setSnapshotPath(path.toString());
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+
+        // when
+        provider.getSnapshot();
+
+        // then
+        final StationGraph stored = StationGraphFile.read(path, subwayRepository.readNetworkFingerprint())
+                .orElseThrow();
+        assertThat(stored.arcCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 지문이_같은_그래프_파일이_있으면_데이터베이스_대신_파일로_시작한다(@TempDir final Path directory)
+            throws IOException {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final Path path = directory.resolve("network.snapshot");
+        final Subway stored = new Subway(List.of(new Line("8호선", "분홍색", List.of(
+                new Section("잠실역", "석촌역", 3)))));
+        StationGraphFile.write(StationGraphs.from(stored), subwayRepository.readNetworkFingerprint(), path);
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setSnapshotPath(path.toString());
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+
+        // when
+        final NavigationSnapshot snapshot = provider.getSnapshot();
+
+        // then
+        assertThat(snapshot.getNavigation().getDistance(new Station("잠실역"), new Station("석촌역"))).isEqualTo(3);
+    }
+
+    @Test
+    void 만든_엔진의_생성_시간과_메모리를_보고한다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.AUTO);
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+
+        // when
+        provider.getSnapshot();
+
+        // then
+        final NavigationBuildReport report = provider.getBuildReport();
+        assertAll(
+                () -> assertThat(report.getEngine()).isEqualTo(NavigationEngine.CSR),
+                () -> assertThat(report.getStationCount()).isEqualTo(2),
+                () -> assertThat(report.getSectionCount()).isEqualTo(1),
+                () -> assertThat(report.getBytes()).isPositive()
+        );
+    }
+
+    @Test
+    void 축약_계층은_백그라운드에서_만들어_재생성_중에도_조회를_막지_않는다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CONTRACTION_HIERARCHY);
+        final List<Runnable> tasks = new ArrayList<>();
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, tasks::add);
+
+        // when
+        final NavigationSnapshot interim = provider.getSnapshot();
+        tasks.forEach(Runnable::run);
+
+        // then
+        final NavigationSnapshot completed = provider.getSnapshot();
+        assertAll(
+                () -> assertThat(interim.getNavigation()).isInstanceOf(IncrementalNavigation.class),
+                () -> assertThat(completed.getNavigation()).isInstanceOf(ContractionHierarchyNavigation.class),
+                () -> assertThat(completed.getNavigation().getDistance(new Station("잠실역"), new Station("석촌역")))
+                        .isEqualTo(10)
+        );
+    }
+
+    @Test
+    void 전처리하는_엔진은_전처리_결과를_보고서에_함께_남긴다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CONTRACTION_HIERARCHY);
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, Runnable::run);
+
+        // when
+        provider.getSnapshot();
+
+        // then
+        final NavigationBuildReport report = provider.getBuildReport();
+        assertAll(
+                () -> assertThat(report.getDetails()).contains("shortcuts="),
+                () -> assertThat(report.toString()).endsWith(report.getDetails())
+        );
+    }
+
+    @Test
+    void 그래프를_읽은_시간과_엔진을_만든_시간을_기록한다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.CSR);
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, registry, Runnable::run);
+
+        // when
+        provider.getSnapshot();
+        provider.invalidate(new SubwayChangedEvent(lineId));
+
+        // then
+        assertAll(
+                () -> assertThat(registry.get("subway.navigation.graph.load").tag("source", "database")
+                        .timer().count()).isEqualTo(1),
+                () -> assertThat(registry.get("subway.navigation.build").tag("engine", "CSR")
+                        .timer().count()).isEqualTo(1),
+                () -> assertThat(registry.get("subway.navigation.invalidation").tag("type", "rebuild")
+                        .counter().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 백그라운드에서_만드는_엔진은_완성되기_전까지_양방향_탐색으로_응답한다() {
+        // given
+        final Long lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setEngine(NavigationEngine.DISTANCE_MATRIX);
+        final List<Runnable> tasks = new ArrayList<>();
+        final NavigationProvider provider =
+                new NavigationProvider(subwayRepository, engineRegistry, properties, meterRegistry, tasks::add);
+        final NavigationSnapshot interim = provider.getSnapshot();
+
+        // when
+        tasks.forEach(Runnable::run);
+
+        // then
+        final NavigationSnapshot completed = provider.getSnapshot();
+        assertAll(
+                () -> assertThat(interim.getNavigation()).isInstanceOf(IncrementalNavigation.class),
+                () -> assertThat(completed.getNavigation()).isInstanceOf(DistanceMatrixNavigation.class),
+                () -> assertThat(completed.getVersion()).isEqualTo(interim.getVersion()),
+                () -> assertThat(completed.getNavigation().getDistance(new Station("잠실역"), new Station("석촌역")))
+                        .isEqualTo(10)
+        );
+    }
+}
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.jayway.jsonpath.PathNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -17,8 +20,15 @@ import subway.dao.LineDao;
 import subway.dao.SectionDao;
 import subway.dao.StationDao;
 import subway.dao.entity.StationEntity;
+import subway.domain.graph.TransferAwareRouting;
+import subway.service.dto.AlternativePathDto;
 import subway.service.dto.PathDto;
+import subway.service.dto.PathMatrixDto;
+import subway.service.event.SubwayChangedEvent;
+import subway.dto.response.LegResponse;
+import subway.dto.response.PathMatrixResponse;
 import subway.dto.response.PathResponse;
+import subway.dto.response.ReachableStationResponse;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -37,13 +47,20 @@ class PathServiceTest {
     @Autowired
     private StationDao stationDao;
 
+    @Autowired
+    private NavigationProvider navigationProvider;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         데이터베이스_초기화();
         노선_역_더미_등록();
+        navigationProvider.invalidate(new SubwayChangedEvent(null));
     }
 
     //
@@ -76,6 +93,146 @@ class PathServiceTest {
         );
     }
 
+    @Test
+    void 경로를_구하는_동안_쿼리와_탐색과_요금_계산에_걸린_시간을_기록한다() {
+        // given
+        final long searches = searchCount();
+
+        // when
+        pathService.findPath(new PathDto("수서역", "장지역"));
+        pathService.findPath(new PathDto("수서역", "장지역"));
+
+        // then
+        assertAll(
+                () -> assertThat(searchCount()).isEqualTo(searches + 1),
+                () -> assertThat(meterRegistry.get("subway.dao.query")
+                        .tags("dao", "SectionDao", "method", "streamAllWithNames", "exception", "none")
+                        .timer().count()).isPositive(),
+                () -> assertThat(meterRegistry.get("subway.fare.calculate").timer().count()).isPositive(),
+                () -> assertThat(meterRegistry.get("subway.cache.hits").tag("cache", "route")
+                        .functionCounter().count()).isPositive()
+        );
+    }
+
+    private long searchCount() {
+        return meterRegistry.find("subway.path.search").tag("query", "path").timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum();
+    }
+
+    @Test
+    void 최단_경로의_노선별_구간과_환승역을_구할_수_있다() {
+        // when
+        final PathResponse pathResponse = pathService.findPath(new PathDto("수서역", "장지역"));
+
+        // then
+        final List<LegResponse> legs = pathResponse.getLegs();
+        assertAll(
+                () -> assertThat(legs).hasSize(2),
+                () -> assertThat(legs.get(0).getLineName()).isEqualTo("분당선"),
+                () -> assertThat(legs.get(0).getStations()).containsExactly("수서역", "복정역"),
+                () -> assertThat(legs.get(1).getLineName()).isEqualTo("8호선"),
+                () -> assertThat(legs.get(1).getDistance()).isEqualTo(10),
+                () -> assertThat(pathResponse.getTransferStations()).containsExactly("복정역")
+        );
+    }
+
+    @Test
+    void 반대_방향의_최단_경로는_캐시된_경로를_뒤집어_구한다() {
+        // given
+        pathService.findPath(new PathDto("수서역", "장지역"));
+        final long hitCount = pathService.getRouteCache().getHitCount();
+
+        // when
+        final PathResponse pathResponse = pathService.findPath(new PathDto("장지역", "수서역"));
+
+        // then
+        assertAll(
+                () -> assertThat(pathService.getRouteCache().getHitCount()).isEqualTo(hitCount + 1),
+                () -> assertThat(pathResponse.getStations()).containsExactly("장지역", "복정역", "수서역"),
+                () -> assertThat(pathResponse.getTransferStations()).containsExactly("복정역")
+        );
+    }
+
+    @Test
+    void 최단_경로와_대안_경로를_거리순으로_구할_수_있다() {
+        // when
+        final List<PathResponse> pathResponses = pathService.findAlternativePaths(
+                new AlternativePathDto("수서역", "장지역", 5));
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponses).extracting(PathResponse::getDistance).containsExactly(14, 20),
+                () -> assertThat(pathResponses).extracting(PathResponse::getFare).containsExactly(1350, 1450)
+        );
+    }
+
+    @Test
+    void 환승을_고려한_파레토_최적_경로를_구할_수_있다() {
+        // when
+        final List<PathResponse> pathResponses = pathService.findTransferAwarePaths(new PathDto("문정역", "장지역"));
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponses).hasSize(1),
+                () -> assertThat(pathResponses.get(0).getDistance()).isEqualTo(8),
+                () -> assertThat(pathResponses.get(0).getTransferStations()).isEmpty()
+        );
+    }
+
+    @Test
+    void 여러_경로를_한_번에_구하면_요청_순서대로_응답한다() {
+        // when
+        final List<PathResponse> pathResponses = pathService.findPaths(List.of(
+                new PathDto("수서역", "장지역"),
+                new PathDto("문정역", "수서역"),
+                new PathDto("수서역", "문정역")));
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponses).extracting(PathResponse::getDistance).containsExactly(14, 12, 12),
+                () -> assertThat(pathResponses.get(2).getStations()).containsExactly("수서역", "가락시장역", "문정역")
+        );
+    }
+
+    @Test
+    void 출발역과_도착역_목록의_모든_쌍에_대한_거리와_요금을_구할_수_있다() {
+        // when
+        final PathMatrixResponse response = pathService.findPathMatrix(new PathMatrixDto(
+                List.of("수서역", "문정역"), List.of("장지역", "수서역", "삼동역")));
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDistances()).containsExactly(14, 0, -1, 8, 12, -1),
+                () -> assertThat(response.getFares()).containsExactly(1350, 1250, -1, 1250, 1350, -1)
+        );
+    }
+
+    @Test
+    void 최대_거리_안에_도달할_수_있는_역을_거리순으로_구할_수_있다() {
+        // when
+        final List<ReachableStationResponse> responses = new ArrayList<>();
+        pathService.findReachableStations("수서역", 8).forEachRemaining(responses::add);
+
+        // then
+        assertAll(
+                () -> assertThat(responses).extracting(ReachableStationResponse::getStation)
+                        .containsExactly("수서역", "복정역", "가락시장역"),
+                () -> assertThat(responses).extracting(ReachableStationResponse::getDistance)
+                        .containsExactly(0, 4, 8),
+                () -> assertThat(responses).extracting(ReachableStationResponse::getFare)
+                        .containsExactly(1250, 1250, 1250)
+        );
+    }
+
+    @Test
+    void 최대_거리가_음수이면_예외가_발생한다() {
+        // expect
+        assertThatThrownBy(() -> pathService.findReachableStations("수서역", -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 거리는 0 이상이어야 합니다.");
+    }
+
     @Test
     void 출발역이_노선에_없을_경우_예외가_발생한다() {
         // expect
@@ -101,6 +258,18 @@ class PathServiceTest {
     }
 
 
+    @Test
+    void 최대_환승_횟수_설정이_상한을_넘으면_생성할_때_예외가_발생한다() {
+        // given
+        final NavigationProperties properties = new NavigationProperties();
+        properties.setMaxTransfers(TransferAwareRouting.MAX_TRANSFERS + 1);
+
+        // expect
+        assertThatThrownBy(() -> new PathService(navigationProvider, properties, null, null, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 환승 횟수는 0 이상 8 이하여야 합니다.");
+    }
+
     private void 데이터베이스_초기화() {
         jdbcTemplate.execute("DELETE FROM line");
         jdbcTemplate.execute("DELETE FROM station");
@@ -0,0 +1,155 @@
+package subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.domain.Journey;
+import subway.domain.Station;
+import subway.dto.response.EarliestArrivalResponse;
+import subway.service.dto.DepartureDto;
+import subway.service.dto.EarliestArrivalDto;
+import subway.service.dto.LineDto;
+import subway.service.dto.SectionDto;
+import subway.service.dto.StationDto;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class TimetableServiceTest {
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private TimetableProvider timetableProvider;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private PathService pathService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long lineId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM departure");
+        jdbcTemplate.execute("DELETE FROM line");
+        jdbcTemplate.execute("DELETE FROM station");
+        lineId = lineService.register(new LineDto("8호선", "분홍색"));
+        stationService.register(new SectionDto(lineId, "잠실역", "석촌역", 10));
+    }
+
+    @Test
+    void 출발편을_등록하면_시간표_탐색에_바로_반영된다() {
+        // given
+        timetableProvider.getConnectionScan();
+
+        // when
+        timetableService.register(new DepartureDto(
+                lineId, "석촌역", "잠실역", List.of(LocalTime.of(8, 0), LocalTime.of(8, 10)), 3));
+
+        // then
+        final Journey journey = timetableProvider.getConnectionScan()
+                .findEarliestArrival(new Station("석촌역"), new Station("잠실역"), LocalTime.of(8, 5).toSecondOfDay());
+        assertThat(journey.getArrivalTime()).isEqualTo(LocalTime.of(8, 13).toSecondOfDay());
+    }
+
+    @Test
+    void 노선에_없는_구간의_출발편은_등록할_수_없다() {
+        // given
+        final DepartureDto departureDto = new DepartureDto(
+                lineId, "잠실역", "송파역", List.of(LocalTime.of(8, 0)), 3);
+
+        // expect
+        assertThatThrownBy(() -> timetableService.register(departureDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("노선에 두 역을 잇는 구간이 존재하지 않습니다.");
+    }
+
+    @Test
+    void 자정을_넘겨_도착하는_출발편은_등록할_수_없다() {
+        // given
+        final DepartureDto departureDto = new DepartureDto(
+                lineId, "잠실역", "석촌역", List.of(LocalTime.of(23, 58)), 3);
+
+        // expect
+        assertThatThrownBy(() -> timetableService.register(departureDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("도착 시각이 자정을 넘을 수 없습니다.");
+    }
+
+    @Test
+    void 구간_가운데에_역이_들어오면_출발편을_거리_비율대로_나눈다() {
+        // given
+        timetableService.register(new DepartureDto(
+                lineId, "석촌역", "잠실역", List.of(LocalTime.of(8, 0)), 10));
+
+        // when
+        stationService.register(new SectionDto(lineId, "잠실역", "송파역", 4));
+
+        // then
+        final Journey journey = timetableProvider.getConnectionScan()
+                .findEarliestArrival(new Station("석촌역"), new Station("잠실역"), LocalTime.of(8, 0).toSecondOfDay());
+        final Journey toMiddle = timetableProvider.getConnectionScan()
+                .findEarliestArrival(new Station("석촌역"), new Station("송파역"), LocalTime.of(8, 0).toSecondOfDay());
+        assertAll(
+                () -> assertThat(journey.getArrivalTime()).isEqualTo(LocalTime.of(8, 10).toSecondOfDay()),
+                () -> assertThat(journey.getRoute().getStations()).containsExactly(
+                        new Station("석촌역"), new Station("송파역"), new Station("잠실역")),
+                () -> assertThat(toMiddle.getArrivalTime()).isEqualTo(LocalTime.of(8, 6).toSecondOfDay())
+        );
+    }
+
+    @Test
+    void 역을_지워_없어진_구간의_출발편은_함께_지운다() {
+        // given
+        stationService.register(new SectionDto(lineId, "석촌역", "송파역", 5));
+        timetableService.register(new DepartureDto(
+                lineId, "석촌역", "송파역", List.of(LocalTime.of(8, 0)), 3));
+
+        // when
+        stationService.delete(new StationDto(lineId, "송파역"));
+
+        // then
+        final Long departureCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM departure", Long.class);
+        assertThat(departureCount).isZero();
+    }
+
+    @Test
+    void 노선에는_있지만_출발편이_없는_역은_없는_역과_다른_예외가_발생한다() {
+        // given
+        timetableService.register(new DepartureDto(
+                lineId, "석촌역", "잠실역", List.of(LocalTime.of(8, 0)), 3));
+        stationService.register(new SectionDto(lineId, "석촌역", "송파역", 5));
+
+        // expect
+        assertAll(
+                () -> assertThatThrownBy(() -> pathService.findEarliestArrival(
+                        new EarliestArrivalDto("송파역", "잠실역", LocalTime.of(8, 0))))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("출발역을 지나는 출발편이 존재하지 않습니다."),
+                () -> assertThatThrownBy(() -> pathService.findEarliestArrival(
+                        new EarliestArrivalDto("천호역", "잠실역", LocalTime.of(8, 0))))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("출발역이 존재하지 않습니다.")
+        );
+    }
+}
@@ -1,7 +1,9 @@
 DELETE FROM line;
 DELETE FROM station;
 DELETE FROM section;
+DELETE FROM departure;
 
 alter table line auto_increment = 1;
 alter table station auto_increment = 1;
 alter table section auto_increment = 1;
+alter table departure auto_increment = 1;
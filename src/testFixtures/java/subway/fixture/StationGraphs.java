@@ -0,0 +1,19 @@
+package subway.fixture;
+
+import subway.domain.Subway;
+import subway.domain.graph.StationGraph;
+
+// 테스트에서 노선 목록으로 경로 탐색 그래프를 바로 만든다. 운영 코드는 구간 테이블에서 읽은 그래프를 쓴다.
+public final class StationGraphs {
+
+    private StationGraphs() {
+    }
+
+    public static StationGraph from(final Subway subway) {
+        return StationGraph.builderOf(subway).build();
+    }
+
+    public static StationGraph editable(final Subway subway, final long version) {
+        return StationGraph.builderOf(subway).buildEditable(version);
+    }
+}
@@ -0,0 +1,239 @@
+package subway.fixture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.dao.StationDao;
+import subway.dao.entity.LineEntity;
+import subway.dao.entity.SectionEntity;
+import subway.dao.entity.StationEntity;
+import subway.domain.Line;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.Subway;
+
+// 규모를 키운 테스트와 벤치마크에 쓰는 노선망. 노선 수와 노선마다의 역 수, 모양, 시드가 같으면 같은 노선망이 나온다.
+// 어느 모양이든 모든 역이 이어져 있다.
+public final class SyntheticNetwork {
+    private static final int MAX_DISTANCE = 10;
+    private static final double TRANSFER_RATIO = 0.1;
+    private static final String LINE_COLOR = "회색";
+
+    private final List<String> stationNames;
+    private final List<int[]> lineStations;
+    private final List<int[]> lineDistances;
+
+    private SyntheticNetwork(final int stationCount, final List<int[]> lineStations, final Random random) {
+        this.stationNames = new ArrayList<>(stationCount);
+        for (int station = 0; station < stationCount; station++) {
+            stationNames.add(String.format("역%06d", station));
+        }
+        this.lineStations = lineStations;
+        this.lineDistances = new ArrayList<>(lineStations.size());
+        for (int[] stations : lineStations) {
+            final int[] distances = new int[stations.length - 1];
+            for (int index = 0; index < distances.length; index++) {
+                distances[index] = 1 + random.nextInt(MAX_DISTANCE);
+            }
+            lineDistances.add(distances);
+        }
+    }
+
+    public static SyntheticNetwork generate(
+            final Shape shape,
+            final int lineCount,
+            final int stationsPerLine,
+            final long seed
+    ) {
+        validate(lineCount, stationsPerLine);
+        final Random random = new Random(seed);
+        final StationIds ids = new StationIds();
+        final List<int[]> lineStations = shape.arrange(lineCount, stationsPerLine, ids, random);
+        return new SyntheticNetwork(ids.count(), lineStations, random);
+    }
+
+    private static void validate(final int lineCount, final int stationsPerLine) {
+        if (lineCount < 1) {
+            throw new IllegalArgumentException("노선은 하나 이상이어야 합니다.");
+        }
+        if (stationsPerLine < 2) {
+            throw new IllegalArgumentException("노선마다 역이 두 개 이상 있어야 합니다.");
+        }
+    }
+
+    public Subway toSubway() {
+        final List<Line> lines = new ArrayList<>(lineStations.size());
+        for (int line = 0; line < lineStations.size(); line++) {
+            final int[] stations = lineStations.get(line);
+            final List<Section> sections = new ArrayList<>(stations.length - 1);
+            for (int index = 0; index + 1 < stations.length; index++) {
+                sections.add(new Section(
+                        stationOf(stations[index]),
+                        stationOf(stations[index + 1]),
+                        lineDistances.get(line)[index]));
+            }
+            lines.add(new Line(lineNameOf(line), LINE_COLOR, sections));
+        }
+        return new Subway(lines);
+    }
+
+    // 역과 노선을 한 번에 넣은 뒤 이름으로 식별자를 찾아 구간을 한 번에 넣는다.
+    public void load(final StationDao stationDao, final LineDao lineDao, final SectionDao sectionDao) {
+        stationDao.insertAll(stationNames);
+        lineDao.insertAll(lineNames().stream()
+                .map(name -> new LineEntity(null, name, LINE_COLOR))
+                .collect(Collectors.toList()));
+        final Map<String, Long> stationIds = stationDao.findAll().stream()
+                .collect(Collectors.toMap(StationEntity::getName, StationEntity::getId));
+        final Map<String, Long> lineIds = lineDao.findAll().stream()
+                .collect(Collectors.toMap(LineEntity::getName, LineEntity::getId));
+        final List<SectionEntity> sections = new ArrayList<>(sectionCount());
+        for (int line = 0; line < lineStations.size(); line++) {
+            final Long lineId = lineIds.get(lineNameOf(line));
+            final int[] stations = lineStations.get(line);
+            for (int index = 0; index + 1 < stations.length; index++) {
+                sections.add(new SectionEntity(
+                        lineId,
+                        stationIds.get(stationNames.get(stations[index])),
+                        stationIds.get(stationNames.get(stations[index + 1])),
+                        lineDistances.get(line)[index]));
+            }
+        }
+        sectionDao.insertAll(sections);
+    }
+
+    public Station stationOf(final int index) {
+        return new Station(stationNames.get(index));
+    }
+
+    public List<String> lineNames() {
+        final List<String> names = new ArrayList<>(lineStations.size());
+        for (int line = 0; line < lineStations.size(); line++) {
+            names.add(lineNameOf(line));
+        }
+        return names;
+    }
+
+    private static String lineNameOf(final int line) {
+        return (line + 1) + "호선";
+    }
+
+    public int stationCount() {
+        return stationNames.size();
+    }
+
+    public int sectionCount() {
+        return lineStations.stream()
+                .mapToInt(stations -> stations.length - 1)
+                .sum();
+    }
+
+    public enum Shape {
+        // 가로 노선과 세로 노선이 번갈아 놓여 교차하는 곳마다 환승역이 생긴다.
+        GRID {
+            @Override
+            List<int[]> arrange(final int lineCount, final int stationsPerLine, final StationIds ids, final Random random) {
+                final int rows = (lineCount + 1) / 2;
+                final int columns = lineCount / 2;
+                if (rows > stationsPerLine) {
+                    throw new IllegalArgumentException("격자 노선망은 가로 노선 수가 노선마다의 역 수보다 많을 수 없습니다.");
+                }
+                final List<int[]> lines = new ArrayList<>(lineCount);
+                for (int line = 0; line < lineCount; line++) {
+                    final boolean horizontal = line % 2 == 0;
+                    final int fixed = horizontal
+                            ? (line / 2) * stationsPerLine / rows
+                            : (line / 2) * stationsPerLine / columns;
+                    final int[] stations = new int[stationsPerLine];
+                    for (int index = 0; index < stationsPerLine; index++) {
+                        stations[index] = horizontal
+                                ? ids.of(fixed * (long) stationsPerLine + index)
+                                : ids.of(index * (long) stationsPerLine + fixed);
+                    }
+                    lines.add(stations);
+                }
+                return lines;
+            }
+        },
+        // 모든 노선이 한가운데의 중심역을 지나고, 이웃한 노선끼리 중심역 바깥에서 한 번 더 만난다.
+        RADIAL {
+            @Override
+            List<int[]> arrange(final int lineCount, final int stationsPerLine, final StationIds ids, final Random random) {
+                final int hub = ids.next();
+                final int middle = stationsPerLine / 2;
+                final int inner = stationsPerLine / 4;
+                final int outer = stationsPerLine * 3 / 4;
+                final boolean linked = lineCount > 1 && inner != middle && outer != middle && inner != outer;
+                final List<int[]> lines = new ArrayList<>(lineCount);
+                for (int line = 0; line < lineCount; line++) {
+                    final int[] stations = new int[stationsPerLine];
+                    for (int index = 0; index < stationsPerLine; index++) {
+                        if (index == middle) {
+                            stations[index] = hub;
+                        } else if (!linked || index != outer) {
+                            stations[index] = ids.next();
+                        }
+                    }
+                    lines.add(stations);
+                }
+                if (linked) {
+                    for (int line = 0; line < lineCount; line++) {
+                        lines.get(line)[outer] = lines.get((line + lineCount - 1) % lineCount)[inner];
+                    }
+                }
+                return lines;
+            }
+        },
+        // 노선마다 새 역을 깔되, 일부 역은 앞서 깐 노선의 역을 골라 환승역으로 만든다.
+        // 노선마다 적어도 한 역은 앞선 노선과 겹치므로 노선망이 끊기지 않는다.
+        RANDOM_TRANSFER {
+            @Override
+            List<int[]> arrange(final int lineCount, final int stationsPerLine, final StationIds ids, final Random random) {
+                final List<int[]> lines = new ArrayList<>(lineCount);
+                for (int line = 0; line < lineCount; line++) {
+                    final int existing = ids.count();
+                    final int forced = line == 0 ? -1 : random.nextInt(stationsPerLine);
+                    final Set<Integer> used = new HashSet<>();
+                    final int[] stations = new int[stationsPerLine];
+                    for (int index = 0; index < stationsPerLine; index++) {
+                        final boolean transfer = index == forced
+                                || (existing > 0 && random.nextDouble() < TRANSFER_RATIO);
+                        int station = transfer ? random.nextInt(existing) : ids.next();
+                        while (!used.add(station)) {
+                            station = index == forced ? random.nextInt(existing) : ids.next();
+                        }
+                        stations[index] = station;
+                    }
+                    lines.add(stations);
+                }
+                return lines;
+            }
+        };
+
+        abstract List<int[]> arrange(int lineCount, int stationsPerLine, StationIds ids, Random random);
+    }
+
+    private static final class StationIds {
+        private final Map<Long, Integer> ids = new HashMap<>();
+        private int count;
+
+        private int next() {
+            return count++;
+        }
+
+        private int of(final long key) {
+            return ids.computeIfAbsent(key, ignored -> next());
+        }
+
+        private int count() {
+            return count;
+        }
+    }
+}